@@ -0,0 +1,46 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import com.dapp.whoscored_scrapper.service.browser.ProcessMemory;
+
+// Resident memory of the processes the benchmark JVM started (Playwright drivers and their Chromium trees),
+// sampled after each iteration and reported as "·rss" next to the latency. Nothing is reported outside Linux.
+public class BrowserRssProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription() {
+        return "RSS of the browser process trees started by the benchmark";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+            IterationResult result) {
+        long total = 0;
+        boolean sampled = false;
+        for (ProcessHandle child : ProcessHandle.current().children().toList()) {
+            long rss = ProcessMemory.treeRssBytes(child);
+            if (rss >= 0) {
+                total += rss;
+                sampled = true;
+            }
+        }
+        if (!sampled) {
+            return List.of();
+        }
+        return List.of(new ScalarResult("rss", total / (1024.0 * 1024.0), "MB", AggregationPolicy.AVG));
+    }
+}
@@ -0,0 +1,76 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+// Table extraction on a loaded page: the part of a scrape that is ours rather than WhoScored's network.
+// Needs a local Chromium; Playwright objects are single-threaded, hence one browser per benchmark thread.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExtractionBenchmark {
+
+    private static final String ROWS = WhoScoredSelectors.STATS_TABLE_BODY + " tr";
+
+    private Playwright playwright;
+    private Browser browser;
+    private Page squadPage;
+    private Page playerPage;
+
+    @Setup
+    public void setUp() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch();
+        squadPage = browser.newPage();
+        squadPage.setContent(ReplayFixtures.squadPage());
+        playerPage = browser.newPage();
+        playerPage.setContent(ReplayFixtures.playerPage());
+    }
+
+    @TearDown
+    public void tearDown() {
+        browser.close();
+        playwright.close();
+    }
+
+    @Benchmark
+    public List<TeamPlayerDTO> squadTable() {
+        return TableExtractor.extract(squadPage, ROWS, TeamService.SQUAD_COLUMNS);
+    }
+
+    // Baseline: the previous implementation, one innerText round trip per cell
+    @Benchmark
+    public List<TeamPlayerDTO> squadTablePerCell() {
+        List<TeamPlayerDTO> squad = new ArrayList<>();
+        for (Locator row : squadPage.locator(ROWS).all()) {
+            List<String> cells = new ArrayList<>();
+            for (String selector : TeamService.SQUAD_COLUMNS.selectors()) {
+                cells.add(row.locator(selector).innerText());
+            }
+            squad.add(TeamService.SQUAD_COLUMNS.map(cells));
+        }
+        return squad;
+    }
+
+    @Benchmark
+    public List<PlayerMatchStatsDTO> playerMatchStats() {
+        return TableExtractor.extract(playerPage, ROWS, PlayerService.MATCH_COLUMNS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.dapp.whoscored_scrapper.service.browser.LaunchProfile;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+// Latency and resident memory per launch profile for one pooled-browser round trip: new context, load a squad page,
+// extract the table, close the context. RSS (the browser's whole process tree, sampled after each iteration) is the
+// "·rss" secondary result that BrowserRssProfiler adds; ./gradlew jmh enables it.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LaunchProfileBenchmark {
+
+    @Param({"LEAN", "BALANCED", "STEALTH"})
+    public LaunchProfile profile;
+
+    private Playwright playwright;
+    private Browser browser;
+    private Path diskCache;
+    private String squadHtml;
+
+    @Setup
+    public void setUp() throws Exception {
+        playwright = Playwright.create();
+        diskCache = Files.createTempDirectory("chromium-cache-" + profile.name().toLowerCase());
+        browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+                .setHeadless(true)
+                .setArgs(profile.launchArgs(diskCache)));
+        squadHtml = ReplayFixtures.squadPage();
+    }
+
+    @TearDown
+    public void tearDown() {
+        browser.close();
+        playwright.close();
+    }
+
+    @Benchmark
+    public List<TeamPlayerDTO> contextRoundTrip() {
+        try (BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                .setViewportSize(profile.viewportWidth(), profile.viewportHeight()))) {
+            Page page = context.newPage();
+            page.setContent(squadHtml);
+            return TableExtractor.extract(page, WhoScoredSelectors.STATS_TABLE_BODY + " tr", TeamService.SQUAD_COLUMNS);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.dapp.whoscored_scrapper.WhoscoredScrapperApplication;
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
+
+// End-to-end lookups (search, navigation, readiness waits, extraction) against the recorded HARs.
+// Record first: run the app with scraper.replay.mode=RECORD and look up the same names through the API.
+// Goes straight to the scrapers, below the cache and admission control, so every invocation is a full scrape.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class LookupBenchmark {
+
+    @Param("Real Madrid")
+    public String teamName;
+
+    @Param("Kylian Mbappé")
+    public String playerName;
+
+    private ConfigurableApplicationContext context;
+    private TeamService teamService;
+    private PlayerService playerService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WhoscoredScrapperApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "scraper.replay.mode=REPLAY",
+                        "scraper.replay.directory=" + ReplayFixtures.DIRECTORY,
+                        "scraper.cache.persistent=false",
+                        "scraper.tracking.enabled=false",
+                        "scraper.http-fetch.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark")
+                .run();
+        teamService = context.getBean(TeamService.class);
+        playerService = context.getBean(PlayerService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TeamDTO teamLookup() {
+        return teamService.getTeamInfoByName(teamName);
+    }
+
+    @Benchmark
+    public PlayerDTO playerLookup() {
+        return playerService.getPlayerInfoByName(playerName);
+    }
+}
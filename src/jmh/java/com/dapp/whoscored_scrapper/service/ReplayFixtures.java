@@ -0,0 +1,73 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// HTML the benchmarks extract from: a snapshot recorded with scraper.replay.mode=RECORD when there is one,
+// otherwise a synthetic table with WhoScored's markup so the suite also runs on a fresh checkout
+final class ReplayFixtures {
+
+    static final Path DIRECTORY = Path.of(System.getProperty("replay.directory", "data/replay"));
+
+    private ReplayFixtures() {
+    }
+
+    static String squadPage() {
+        return snapshot("teams-").orElseGet(() -> syntheticTable(30, ReplayFixtures::squadRow));
+    }
+
+    static String playerPage() {
+        return snapshot("players-").orElseGet(() -> syntheticTable(40, ReplayFixtures::matchRow));
+    }
+
+    private static Optional<String> snapshot(String prefix) {
+        Path html = DIRECTORY.resolve("html");
+        if (!Files.isDirectory(html)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(html)) {
+            Optional<Path> file = files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().findFirst();
+            return file.isPresent() ? Optional.of(Files.readString(file.get(), StandardCharsets.UTF_8)) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String syntheticTable(int rows, RowWriter rowWriter) {
+        StringBuilder html = new StringBuilder("<table><tbody id='player-table-statistics-body'>");
+        for (int i = 0; i < rows; i++) {
+            rowWriter.write(html, i);
+        }
+        return html.append("</tbody></table>").toString();
+    }
+
+    private static void squadRow(StringBuilder html, int i) {
+        html.append("<tr><td><a class='player-link'><span class='iconize-icon-left'>Player ").append(i)
+                .append("</span></a><span class='player-meta-data'>").append(20 + i % 15)
+                .append("</span><span class='player-meta-data'>, DMC</span></td><td></td>");
+        for (int column = 3; column <= 15; column++) {
+            html.append("<td>").append(i * column % 97).append("</td>");
+        }
+        html.append("</tr>");
+    }
+
+    private static void matchRow(StringBuilder html, int i) {
+        html.append("<tr><td><a class='player-match-link'>Rival ").append(i)
+                .append(" <span class='scoreline'>").append(i % 4).append(" : ").append(i % 3).append("</span></a></td><td></td>")
+                .append("<td>").append(String.format("%02d-%02d-2025", 1 + i % 28, 1 + i % 12)).append("</td><td>FW</td>");
+        for (int column = 5; column <= 13; column++) {
+            html.append("<td>").append(i * column % 90).append("</td>");
+        }
+        html.append("</tr>");
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(StringBuilder html, int index);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.admission")
+public class AdmissionProperties {
+
+    // Scrapes allowed to run at once; 0 uses scraper.browser-pool.size, one Chromium per scrape
+    private int maxConcurrent = 0;
+
+    // Scrapes allowed to wait for a slot; beyond this requests are rejected right away with 429
+    private int maxQueued = 8;
+
+    // A queued scrape that gets no slot in this time is rejected with 503
+    private Duration maxWait = Duration.ofSeconds(20);
+
+    // Sent as Retry-After on both rejections
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
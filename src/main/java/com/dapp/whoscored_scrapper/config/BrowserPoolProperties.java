@@ -0,0 +1,40 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import com.dapp.whoscored_scrapper.service.browser.LaunchProfile;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.browser-pool")
+public class BrowserPoolProperties {
+
+    // Maximum number of Chromium instances alive at the same time (idle + leased)
+    private int size = 2;
+
+    // Browsers kept warm even when there is no traffic
+    private int minIdle = 1;
+
+    // A browser is recycled after serving this many contexts, to contain renderer leaks
+    private int maxContextsPerBrowser = 50;
+
+    // How long a request waits for a free browser before giving up
+    private Duration checkoutTimeout = Duration.ofSeconds(60);
+
+    // Idle browsers above minIdle are closed after this long without use
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Chromium flags and viewport: LEAN, BALANCED or STEALTH
+    private LaunchProfile profile = LaunchProfile.LEAN;
+
+    // Each browser gets its own subdirectory, removed when the browser is closed
+    private Path diskCacheDirectory = Path.of("data", "chromium-cache");
+
+    // A browser whose process tree grows past this is recycled instead of going back to the pool; 0 disables the guard
+    private DataSize maxRss = DataSize.ofMegabytes(384);
+}
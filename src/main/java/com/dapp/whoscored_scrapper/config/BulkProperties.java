@@ -0,0 +1,16 @@
+package com.dapp.whoscored_scrapper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.bulk")
+public class BulkProperties {
+
+    // Lookups of one batch in flight at once, each in its own browser context
+    private int parallelism = 2;
+
+    // Names accepted per request
+    private int maxItems = 50;
+}
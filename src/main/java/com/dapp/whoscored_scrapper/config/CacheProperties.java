@@ -0,0 +1,31 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.cache")
+public class CacheProperties {
+
+    // Entries kept in memory; Caffeine evicts by frequency + recency (W-TinyLFU) beyond this
+    private long maximumSize = 500;
+
+    // Persist entries in H2 so a restart does not mean re-scraping every popular team
+    private boolean persistent = true;
+
+    private Duration teamTtl = Duration.ofHours(6);
+    private Duration playerProfileTtl = Duration.ofDays(7);
+    private Duration playerMatchStatsTtl = Duration.ofHours(6);
+
+    // Team and match-stats entries live until shortly after the team's next match instead of a fixed TTL
+    private boolean fixtureAware = true;
+    // Stats and ratings settle a while after the final whistle; counted from midnight after the match day
+    private Duration postMatchDelay = Duration.ofHours(6);
+    // Upper bound when the next match is far away (international break, off-season)
+    private Duration maxFixtureTtl = Duration.ofDays(14);
+    // Stored fixtures are re-scraped after this long even if no match was played in between
+    private Duration fixturesTtl = Duration.ofDays(7);
+}
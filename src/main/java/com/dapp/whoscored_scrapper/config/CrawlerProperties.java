@@ -0,0 +1,16 @@
+package com.dapp.whoscored_scrapper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.crawler")
+public class CrawlerProperties {
+
+    // Browser contexts one crawl may use at once; each one pays the session setup once for its share of teams
+    private int maxParallelism = 2;
+
+    // Safety net against a page that lists far more team links than a league has
+    private int maxTeams = 40;
+}
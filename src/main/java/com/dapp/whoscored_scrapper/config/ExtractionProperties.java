@@ -0,0 +1,31 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.extraction")
+public class ExtractionProperties {
+
+    public enum Mode {
+        // Parse WhoScored's StatisticsFeed JSON, falling back to the DOM when no feed is seen
+        FEED,
+        // Only read the rendered tables
+        DOM
+    }
+
+    private Mode mode = Mode.FEED;
+
+    // How long to wait for the stats feed after the page or tab that triggers it was opened
+    private Duration feedTimeout = Duration.ofSeconds(15);
+
+    // Upper bound on extra feed pages requested per table
+    private int maxFeedPages = 20;
+
+    // URL fragments identifying the squad and per-match feeds
+    private String squadFeedPath = "/StatisticsFeed/1/GetPlayerStatistics";
+    private String matchFeedPath = "/StatisticsFeed/1/GetMatchesForPlayer";
+}
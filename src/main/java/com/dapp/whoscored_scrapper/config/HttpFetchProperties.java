@@ -0,0 +1,20 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.http-fetch")
+public class HttpFetchProperties {
+
+    // Read the squad StatisticsFeed over plain HTTP before launching a browser; needs a cleared session
+    private boolean enabled = true;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    // Per request, including reading the body
+    private Duration requestTimeout = Duration.ofSeconds(15);
+}
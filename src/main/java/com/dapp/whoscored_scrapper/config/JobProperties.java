@@ -0,0 +1,28 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.jobs")
+public class JobProperties {
+
+    // Jobs scraped at the same time; more than the browser pool size only makes them wait for a lease
+    private int workers = 2;
+
+    // Jobs waiting for a worker; beyond this POST /api/jobs answers 503
+    private int queueCapacity = 50;
+
+    private Duration callbackTimeout = Duration.ofSeconds(10);
+
+    // When set, callbacks may only go to these hosts (and their subdomains); private addresses are refused either way
+    private List<String> callbackAllowedHosts = new ArrayList<>();
+
+    // Finished jobs (and their results) are deleted after this long
+    private Duration retention = Duration.ofDays(7);
+}
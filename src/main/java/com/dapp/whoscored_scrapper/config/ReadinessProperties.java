@@ -0,0 +1,22 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.readiness")
+public class ReadinessProperties {
+
+    // Per-step overrides of WaitStep's default timeout, e.g. scraper.readiness.timeouts.search-results-ready=20s
+    private Map<WaitStep, Duration> timeouts = new EnumMap<>(WaitStep.class);
+
+    // How long the DOM must stay unchanged to consider client-side rendering finished
+    private Duration domQuietPeriod = Duration.ofMillis(500);
+}
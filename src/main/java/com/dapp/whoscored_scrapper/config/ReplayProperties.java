@@ -0,0 +1,26 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.replay")
+public class ReplayProperties {
+
+    public enum Mode {
+        // Live WhoScored, nothing recorded
+        OFF,
+        // Live WhoScored; every context writes a HAR and the final HTML of its pages
+        RECORD,
+        // No network: requests are answered from the recorded HARs, anything not recorded is aborted
+        REPLAY
+    }
+
+    private Mode mode = Mode.OFF;
+
+    // HARs go to <directory>/har, HTML snapshots to <directory>/html
+    private Path directory = Path.of("data", "replay");
+}
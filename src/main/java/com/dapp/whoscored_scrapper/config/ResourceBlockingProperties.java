@@ -0,0 +1,34 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.resource-blocking")
+public class ResourceBlockingProperties {
+
+    private boolean enabled = true;
+
+    // Playwright resource types: document, stylesheet, image, media, font, script, xhr, fetch, websocket, other...
+    private List<String> blockedResourceTypes = new ArrayList<>(List.of("image", "media", "font"));
+
+    // Matched against the request host and its parent domains
+    private List<String> blockedDomains = new ArrayList<>();
+
+    // Never blocked, whatever their type or domain (Cloudflare challenge assets)
+    private List<String> allowedDomains = new ArrayList<>(List.of("challenges.cloudflare.com"));
+
+    // Rough average size per blocked resource type, used to estimate the bytes saved per scrape
+    private Map<String, Long> estimatedBytesPerType = new HashMap<>(Map.of(
+            "image", 40_000L,
+            "media", 500_000L,
+            "font", 30_000L,
+            "script", 60_000L,
+            "stylesheet", 20_000L));
+}
@@ -0,0 +1,13 @@
+package com.dapp.whoscored_scrapper.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background work (pool eviction/warm-up, session refresh, tracking, cache cleanup...).
+// Tests switch it off with scraper.scheduling.enabled=false so nothing launches Chromium or hits WhoScored.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scraper.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
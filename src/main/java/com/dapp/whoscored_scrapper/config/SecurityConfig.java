@@ -2,6 +2,7 @@ package com.dapp.whoscored_scrapper.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -17,8 +18,10 @@ public class SecurityConfig {
         http
             .csrf(csrf -> csrf.disable()) // Deshabilitar CSRF para APIs stateless
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.DELETE, "/api/cache", "/api/cache/**").hasRole("ADMIN") // Vaciar la caché fuerza scrapes nuevos
                 .requestMatchers("/api/**").permitAll() // Permite acceso a todos los endpoints bajo /api/
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll() // Permite acceso a Swagger UI y la definición de la API
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // Health checks y scraping de Prometheus
                 .anyRequest().authenticated() // Requiere autenticación para cualquier otra petición
             )
             .httpBasic(withDefaults()); // Puedes cambiar esto por otra forma de autenticación si lo necesitas
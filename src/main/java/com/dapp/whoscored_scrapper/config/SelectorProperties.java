@@ -0,0 +1,19 @@
+package com.dapp.whoscored_scrapper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.selectors")
+public class SelectorProperties {
+
+    // Candidates are probed in order of recent hits instead of the declared order
+    private boolean adaptive = true;
+
+    // Weight kept by older hits on every probe of the step; lower adapts faster to a markup change
+    private double decay = 0.9;
+
+    // Share of "nothing matched" cases that run the page diagnostics (dozens of extra round trips)
+    private double diagnosticsSampleRate = 0.05;
+}
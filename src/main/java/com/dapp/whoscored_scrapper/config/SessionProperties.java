@@ -0,0 +1,25 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.session")
+public class SessionProperties {
+
+    // Playwright storageState (cookies + localStorage) captured after Cloudflare and the cookie banner
+    private Path stateFile = Path.of("data", "session", "storage-state.json");
+
+    // Background warm-up of a fresh session when the current one is about to expire
+    private boolean warmUpEnabled = true;
+
+    // Upper bound for reusing a captured session, even if cf_clearance claims to live longer
+    private Duration maxAge = Duration.ofHours(6);
+
+    // The background warm-up replaces the session this long before it expires
+    private Duration refreshBefore = Duration.ofMinutes(30);
+}
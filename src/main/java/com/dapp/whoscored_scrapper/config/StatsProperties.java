@@ -0,0 +1,17 @@
+package com.dapp.whoscored_scrapper.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.stats")
+public class StatsProperties {
+
+    // Window of the precomputed "form" figures (rolling average over the latest matches)
+    private int formMatches = 5;
+
+    // Upper bound for lastMatches and page size on the stats endpoints
+    private int maxWindow = 50;
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,31 @@
+package com.dapp.whoscored_scrapper.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "scraper.tracking")
+public class TrackingProperties {
+
+    private boolean enabled = true;
+
+    // Players re-scraped per scheduler run, oldest due first
+    private int batchSize = 5;
+
+    // Played in the last recentMatchWindow: ratings and stats may still be revised, check often
+    private Duration recentMatchWindow = Duration.ofDays(3);
+    private Duration recentInterval = Duration.ofHours(6);
+
+    // Played in the last activeWindow: in season, the next match is days away
+    private Duration activeWindow = Duration.ofDays(30);
+    private Duration activeInterval = Duration.ofHours(24);
+
+    // No match for longer (injured, off-season...)
+    private Duration dormantInterval = Duration.ofDays(3);
+
+    // Delay before retrying a failed sync, doubled on each consecutive failure up to dormantInterval
+    private Duration failureBackoff = Duration.ofMinutes(30);
+}
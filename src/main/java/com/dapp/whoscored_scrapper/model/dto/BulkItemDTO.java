@@ -0,0 +1,15 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+// One NDJSON line of a bulk response: either the lookup result or the error it failed with
+@Data
+@Builder
+public class BulkItemDTO {
+    private String name;
+    private boolean success;
+    private Object result;
+    private String error;
+    private long elapsedMs;
+}
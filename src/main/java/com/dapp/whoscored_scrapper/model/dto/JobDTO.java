@@ -0,0 +1,36 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import java.time.Instant;
+
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.model.entity.JobStatus;
+import com.dapp.whoscored_scrapper.model.entity.ScrapeJob;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JobDTO {
+    private String id;
+    private EntityKind type;
+    private String name;
+    private JobStatus status;
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static JobDTO from(ScrapeJob job) {
+        return JobDTO.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .name(job.getName())
+                .status(job.getStatus())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
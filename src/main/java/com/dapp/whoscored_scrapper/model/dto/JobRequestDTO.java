@@ -0,0 +1,12 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+
+import lombok.Data;
+
+@Data
+public class JobRequestDTO {
+    private EntityKind type;
+    private String name;
+    private String callbackUrl;
+}
@@ -0,0 +1,23 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LeaderboardEntryDTO {
+    private long rank;
+    private String name;
+    private String team;
+    private String position;
+    private int appearances;
+    private int minutes;
+    private int goals;
+    private int assists;
+    private double goalsPer90;
+    private double assistsPer90;
+    private Double rating;
+    // Tracked players only: average rating over the latest scraper.stats.form-matches matches
+    private Double formRating;
+    private Double passSuccess;
+}
@@ -0,0 +1,18 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LeagueCrawlDTO {
+    private String tournamentUrl;
+    private int teamsFound;
+    private List<TeamDTO> teams;
+    // Team name -> error, for the teams that could not be scraped
+    private Map<String, String> failures;
+    private long elapsedMs;
+}
@@ -0,0 +1,24 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Data;
+
+// Averages of a tracked player over a window of stored matches
+@Data
+@Builder
+public class PlayerFormDTO {
+    private String name;
+    private String team;
+    private int matches;
+    private int minutes;
+    private int goals;
+    private int assists;
+    private Double avgRating;
+    private double goalsPer90;
+    private double assistsPer90;
+    private Double avgPassSuccess;
+    private LocalDate from;
+    private LocalDate to;
+}
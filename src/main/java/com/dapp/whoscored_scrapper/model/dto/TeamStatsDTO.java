@@ -0,0 +1,36 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import java.time.Instant;
+
+import lombok.Data;
+
+// Squad season totals of a stored team
+@Data
+public class TeamStatsDTO {
+    private String team;
+    private long players;
+    private long minutes;
+    private long goals;
+    private long assists;
+    private long yellowCards;
+    private long redCards;
+    // Average of the players' ratings weighted by minutes played
+    private Double avgRating;
+    private Instant lastScrapedAt;
+
+    // Built by the JPQL aggregate in SquadPlayerStatsRepository.teamTotals
+    public TeamStatsDTO(String team, Number players, Number minutes, Number goals, Number assists, Number yellowCards,
+            Number redCards, Number weightedRating, Number ratedMinutes, Instant lastScrapedAt) {
+        this.team = team;
+        this.players = players.longValue();
+        this.minutes = minutes == null ? 0 : minutes.longValue();
+        this.goals = goals == null ? 0 : goals.longValue();
+        this.assists = assists == null ? 0 : assists.longValue();
+        this.yellowCards = yellowCards == null ? 0 : yellowCards.longValue();
+        this.redCards = redCards == null ? 0 : redCards.longValue();
+        this.avgRating = ratedMinutes == null || ratedMinutes.longValue() == 0
+                ? null
+                : weightedRating.doubleValue() / ratedMinutes.doubleValue();
+        this.lastScrapedAt = lastScrapedAt;
+    }
+}
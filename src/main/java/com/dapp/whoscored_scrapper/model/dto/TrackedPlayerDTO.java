@@ -0,0 +1,19 @@
+package com.dapp.whoscored_scrapper.model.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TrackedPlayerDTO {
+    private String name;
+    private String currentTeam;
+    private LocalDate lastMatchDate;
+    private Instant lastSyncedAt;
+    private Instant nextSyncAt;
+    private int storedMatches;
+    private String lastError;
+}
@@ -0,0 +1,8 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+// Cached data kinds, each with its own TTL: profiles barely change, stats change after every match
+public enum CacheRegion {
+    TEAM,
+    PLAYER_PROFILE,
+    PLAYER_MATCH_STATS
+}
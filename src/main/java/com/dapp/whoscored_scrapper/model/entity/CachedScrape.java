@@ -0,0 +1,54 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Persistent tier of the scrape cache: the JSON of a scraped DTO, kept across restarts
+@Entity
+@Table(name = "cached_scrape",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"region", "cache_key"}),
+        indexes = @Index(name = "idx_cached_scrape_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class CachedScrape {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private CacheRegion region;
+
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    // SHA-256 of payload, which is canonical JSON; null on rows written before ETags existed
+    @Column(length = 64)
+    private String etag;
+
+    @Column(name = "stored_at", nullable = false)
+    private Instant storedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+public enum EntityKind {
+    TEAM("Teams"),
+    PLAYER("Players");
+
+    // Path segment WhoScored uses for this kind of page, e.g. /Teams/52/Show/...
+    private final String pathSegment;
+
+    EntityKind(String pathSegment) {
+        this.pathSegment = pathSegment;
+    }
+
+    public String getPathSegment() {
+        return pathSegment;
+    }
+}
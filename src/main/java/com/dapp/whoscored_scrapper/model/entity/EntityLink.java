@@ -0,0 +1,47 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Learned mapping from a searched name to the WhoScored page it resolved to
+@Entity
+@Table(name = "entity_link", uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "lookup_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class EntityLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EntityKind kind;
+
+    // Normalized search term (lowercase, no accents, single spaces)
+    @Column(name = "lookup_key", nullable = false)
+    private String lookupKey;
+
+    @Column(name = "whoscored_id", nullable = false)
+    private Long whoscoredId;
+
+    @Column(nullable = false, length = 512)
+    private String url;
+
+    private int hits;
+
+    private Instant lastResolvedAt;
+}
@@ -0,0 +1,67 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A past or upcoming match of a team, from the team's fixtures page
+@Entity
+@Table(name = "fixture",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"team_id", "date_text", "rival_team"}),
+        indexes = @Index(name = "idx_fixture_team_date", columnList = "team_id, match_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Fixture {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fixture_seq")
+    @SequenceGenerator(name = "fixture_seq", sequenceName = "fixture_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(name = "date_text", nullable = false, length = 32)
+    private String dateText;
+
+    @Column(name = "match_date")
+    private LocalDate matchDate;
+
+    @Column(name = "rival_team", nullable = false)
+    private String rivalTeam;
+
+    @Column(length = 64)
+    private String competition;
+
+    @Column(length = 32)
+    private String score;
+
+    // W/D/L as shown by WhoScored, null for upcoming matches
+    @Column(length = 8)
+    private String result;
+
+    private int redCardsTeam;
+    private int redCardsRival;
+
+    private boolean played;
+
+    @Column(name = "scraped_at", nullable = false)
+    private Instant scrapedAt;
+}
@@ -0,0 +1,54 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A squad member as listed on the team page
+@Entity
+@Table(name = "player",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"team_id", "lookup_key"}),
+        indexes = {
+                @Index(name = "idx_player_name", columnList = "name"),
+                @Index(name = "idx_player_team", columnList = "team_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class Player {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(name = "lookup_key", nullable = false)
+    private String lookupKey;
+
+    @Column(nullable = false)
+    private String name;
+
+    private Integer age;
+
+    @Column(length = 64)
+    private String position;
+
+    private Integer heightCm;
+    private Integer weightKg;
+}
@@ -0,0 +1,75 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One row of a tracked player's match statistics table, keyed by player + date + opponent
+@Entity
+@Table(name = "player_match_stat",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"player_id", "match_date_text", "opponent"}),
+        indexes = @Index(name = "idx_player_match_stat_player_date", columnList = "player_id, match_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerMatchStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_match_stat_seq")
+    @SequenceGenerator(name = "player_match_stat_seq", sequenceName = "player_match_stat_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player_id", nullable = false)
+    private TrackedPlayer player;
+
+    // Date as shown by WhoScored (dd-MM-yyyy), part of the key
+    @Column(name = "match_date_text", nullable = false, length = 32)
+    private String matchDateText;
+
+    // Parsed date for ordering, null when the text was not a date
+    @Column(name = "match_date")
+    private LocalDate matchDate;
+
+    @Column(nullable = false)
+    private String opponent;
+
+    @Column(length = 32)
+    private String score;
+
+    @Column(length = 32)
+    private String position;
+
+    private int minsPlayed;
+    private int goals;
+    private int assists;
+    private int yellowCards;
+    private int redCards;
+    private int shots;
+    private double passSuccess;
+    private int aerialsWon;
+    // Null when the player was not rated
+    private Double rating;
+
+    // Hash of the stat columns, to tell a changed row (rating revised after the match) from an unchanged one
+    @Column(name = "row_hash", nullable = false, length = 64)
+    private String rowHash;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
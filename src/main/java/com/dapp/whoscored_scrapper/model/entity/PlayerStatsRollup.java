@@ -0,0 +1,71 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Aggregates of a tracked player's stored matches, recomputed on every sync so leaderboards read one row per player
+@Entity
+@Table(name = "player_stats_rollup", indexes = {
+        @Index(name = "idx_rollup_rating", columnList = "avg_rating"),
+        @Index(name = "idx_rollup_form_rating", columnList = "form_rating"),
+        @Index(name = "idx_rollup_goals_per_90", columnList = "goals_per_90")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlayerStatsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_stats_rollup_seq")
+    @SequenceGenerator(name = "player_stats_rollup_seq", sequenceName = "player_stats_rollup_seq", allocationSize = 50)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player_id", nullable = false, unique = true)
+    private TrackedPlayer player;
+
+    private int matches;
+    private int minutes;
+    private int goals;
+    private int assists;
+
+    @Column(name = "avg_rating")
+    private Double avgRating;
+
+    @Column(name = "goals_per_90")
+    private double goalsPer90;
+
+    @Column(name = "assists_per_90")
+    private double assistsPer90;
+
+    // Same figures over the most recent scraper.stats.form-matches matches
+    @Column(name = "form_matches")
+    private int formMatches;
+
+    @Column(name = "form_rating")
+    private Double formRating;
+
+    @Column(name = "form_goals_per_90")
+    private double formGoalsPer90;
+
+    @Column(name = "last_match_date")
+    private LocalDate lastMatchDate;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
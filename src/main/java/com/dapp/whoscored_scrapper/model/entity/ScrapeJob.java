@@ -0,0 +1,60 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A team or player lookup run in the background; the result is kept as the JSON the sync endpoint would return
+@Entity
+@Table(name = "scrape_job", indexes = @Index(name = "idx_scrape_job_status", columnList = "status"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScrapeJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EntityKind type;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobStatus status;
+
+    @Column(name = "callback_url", length = 1024)
+    private String callbackUrl;
+
+    @Lob
+    private String result;
+
+    @Column(length = 1024)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "callback_status")
+    private Integer callbackStatus;
+}
@@ -0,0 +1,48 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// How often a candidate selector matched, so the order learned before a restart survives it
+@Entity
+@Table(name = "selector_hit_stat", uniqueConstraints = @UniqueConstraint(columnNames = {"step", "selector"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class SelectorHitStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private SelectorStep step;
+
+    @Column(nullable = false, length = 512)
+    private String selector;
+
+    private long hits;
+
+    // Exponentially decayed hit count: recent matches weigh more than old ones
+    private double score;
+
+    // Hits of the whole step when score was last brought up to date; every step hit since decays it once more
+    @Column(name = "score_step_hits")
+    private Long scoreStepHits;
+
+    @Column(name = "last_hit_at")
+    private Instant lastHitAt;
+}
@@ -0,0 +1,8 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+// Steps whose element is found by trying a list of candidate selectors
+public enum SelectorStep {
+    SEARCH_INPUT,
+    COOKIE_BUTTON,
+    CLOUDFLARE_BUTTON
+}
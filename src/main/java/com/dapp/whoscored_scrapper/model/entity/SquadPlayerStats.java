@@ -0,0 +1,70 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Season totals of one squad member, from the team page's statistics table
+@Entity
+@Table(name = "squad_player_stats", indexes = {
+        @Index(name = "idx_squad_stats_team_rating", columnList = "team_id, rating"),
+        @Index(name = "idx_squad_stats_player", columnList = "player_id"),
+        @Index(name = "idx_squad_stats_rating", columnList = "rating"),
+        @Index(name = "idx_squad_stats_goals_per_90", columnList = "goals_per_90")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SquadPlayerStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "squad_player_stats_seq")
+    @SequenceGenerator(name = "squad_player_stats_seq", sequenceName = "squad_player_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player_id", nullable = false, unique = true)
+    private Player player;
+
+    // Denormalized from player.team so per-team rankings need no join
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    private int appearances;
+    private int subAppearances;
+    private int minsPlayed;
+    private int goals;
+    private int assists;
+    private int yellowCards;
+    private int redCards;
+    private double shotsPerGame;
+    private double passSuccess;
+    private double aerialsWonPerGame;
+    private int manOfTheMatch;
+    private Double rating;
+
+    // Precomputed at write time so leaderboards can sort on them through an index
+    @Column(name = "goals_per_90")
+    private double goalsPer90;
+
+    @Column(name = "assists_per_90")
+    private double assistsPer90;
+
+    @Column(name = "scraped_at", nullable = false)
+    private Instant scrapedAt;
+}
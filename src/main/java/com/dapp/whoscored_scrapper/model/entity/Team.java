@@ -0,0 +1,42 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "team", indexes = @Index(name = "idx_team_name", columnList = "name"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Team {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq")
+    @SequenceGenerator(name = "team_seq", sequenceName = "team_seq", allocationSize = 50)
+    private Long id;
+
+    // Normalized team name, the identity of a team across scrapes
+    @Column(name = "lookup_key", nullable = false, unique = true)
+    private String lookupKey;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Last squad scrape; null for a team only known from its fixtures
+    @Column(name = "last_scraped_at")
+    private Instant lastScrapedAt;
+
+    @Column(name = "fixtures_scraped_at")
+    private Instant fixturesScrapedAt;
+}
@@ -0,0 +1,72 @@
+package com.dapp.whoscored_scrapper.model.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A player kept up to date in the background; API reads for it are served from this table
+@Entity
+@Table(name = "tracked_player", indexes = @Index(name = "idx_tracked_player_next_sync_at", columnList = "next_sync_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TrackedPlayer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Normalized name the player is looked up by
+    @Column(name = "lookup_key", nullable = false, unique = true)
+    private String lookupKey;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String shirtNumber;
+    private String age;
+    private String height;
+    private String positions;
+    private String nationality;
+    private String currentTeam;
+
+    // NameNormalizer key of currentTeam, matched the same way as Team.lookupKey
+    @Column(name = "current_team_key")
+    private String currentTeamKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_synced_at")
+    private Instant lastSyncedAt;
+
+    @Column(name = "next_sync_at", nullable = false)
+    private Instant nextSyncAt;
+
+    // Most recent match in the stored rows; drives how often the player is re-scraped
+    @Column(name = "last_match_date")
+    private LocalDate lastMatchDate;
+
+    // ETag of the PlayerDTO served from the store, and when that content last changed (not when it was last synced)
+    @Column(name = "content_etag", length = 64)
+    private String contentEtag;
+
+    @Column(name = "content_changed_at")
+    private Instant contentChangedAt;
+
+    @Column(name = "consecutive_failures")
+    private int consecutiveFailures;
+
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+}
@@ -0,0 +1,24 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.dapp.whoscored_scrapper.model.entity.CacheRegion;
+import com.dapp.whoscored_scrapper.model.entity.CachedScrape;
+
+public interface CachedScrapeRepository extends JpaRepository<CachedScrape, Long> {
+
+    Optional<CachedScrape> findByRegionAndCacheKey(CacheRegion region, String cacheKey);
+
+    @Modifying
+    @Query("delete from CachedScrape c where c.region = :region and c.cacheKey = :cacheKey")
+    int deleteEntry(CacheRegion region, String cacheKey);
+
+    @Modifying
+    @Query("delete from CachedScrape c where c.expiresAt < :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,15 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.model.entity.EntityLink;
+
+public interface EntityLinkRepository extends JpaRepository<EntityLink, Long> {
+
+    Optional<EntityLink> findByKindAndLookupKey(EntityKind kind, String lookupKey);
+
+    void deleteByKindAndLookupKey(EntityKind kind, String lookupKey);
+}
@@ -0,0 +1,23 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.Fixture;
+import com.dapp.whoscored_scrapper.model.entity.Team;
+
+public interface FixtureRepository extends JpaRepository<Fixture, Long> {
+
+    List<Fixture> findByTeam(Team team);
+
+    Page<Fixture> findByTeam(Team team, Pageable pageable);
+
+    Optional<Fixture> findFirstByTeamAndMatchDateGreaterThanEqualOrderByMatchDateAsc(Team team, LocalDate from);
+
+    List<Fixture> findByTeamAndMatchDateGreaterThanEqualOrderByMatchDateAsc(Team team, LocalDate from);
+}
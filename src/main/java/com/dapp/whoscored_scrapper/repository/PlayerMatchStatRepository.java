@@ -0,0 +1,35 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+
+public interface PlayerMatchStatRepository extends JpaRepository<PlayerMatchStat, Long> {
+
+    List<PlayerMatchStat> findByPlayer(TrackedPlayer player);
+
+    List<PlayerMatchStat> findByPlayerOrderByMatchDateDescIdDesc(TrackedPlayer player);
+
+    List<PlayerMatchStat> findByPlayerOrderByMatchDateDescIdDesc(TrackedPlayer player, Pageable pageable);
+
+    List<PlayerMatchStat> findByPlayerAndMatchDateGreaterThanEqualOrderByMatchDateDescIdDesc(TrackedPlayer player,
+            LocalDate since, Pageable pageable);
+
+    // Keyset page for exports: stays as cheap on the last page as on the first
+    @Query("select m from PlayerMatchStat m join fetch m.player p "
+            + "where m.id > :afterId and (:player is null or p.lookupKey = :player) order by m.id")
+    List<PlayerMatchStat> exportPage(@Param("player") String player, @Param("afterId") long afterId, Pageable pageable);
+
+    // [player id, stored matches] for every tracked player, in one query
+    @Query("select m.player.id, count(m) from PlayerMatchStat m group by m.player.id")
+    List<Object[]> countPerPlayer();
+
+    void deleteByPlayer(TrackedPlayer player);
+}
@@ -0,0 +1,13 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.Player;
+import com.dapp.whoscored_scrapper.model.entity.Team;
+
+public interface PlayerRepository extends JpaRepository<Player, Long> {
+
+    List<Player> findByTeam(Team team);
+}
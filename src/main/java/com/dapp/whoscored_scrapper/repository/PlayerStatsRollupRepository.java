@@ -0,0 +1,25 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dapp.whoscored_scrapper.model.entity.PlayerStatsRollup;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+
+public interface PlayerStatsRollupRepository extends JpaRepository<PlayerStatsRollup, Long> {
+
+    Optional<PlayerStatsRollup> findByPlayer(TrackedPlayer player);
+
+    void deleteByPlayer(TrackedPlayer player);
+
+    @EntityGraph(attributePaths = "player")
+    @Query("select r from PlayerStatsRollup r where r.minutes >= :minMinutes "
+            + "and (:team is null or r.player.currentTeamKey = :team)")
+    Page<PlayerStatsRollup> leaderboard(@Param("team") String team, @Param("minMinutes") int minMinutes, Pageable pageable);
+}
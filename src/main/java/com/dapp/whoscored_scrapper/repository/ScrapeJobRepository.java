@@ -0,0 +1,21 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.dapp.whoscored_scrapper.model.entity.JobStatus;
+import com.dapp.whoscored_scrapper.model.entity.ScrapeJob;
+
+public interface ScrapeJobRepository extends JpaRepository<ScrapeJob, String> {
+
+    List<ScrapeJob> findByStatusOrderByCreatedAt(JobStatus status);
+
+    @Modifying
+    @Query("delete from ScrapeJob j where j.status in :statuses and j.finishedAt < :cutoff")
+    int deleteFinishedBefore(Collection<JobStatus> statuses, Instant cutoff);
+}
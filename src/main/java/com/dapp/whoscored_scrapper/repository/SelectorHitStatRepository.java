@@ -0,0 +1,13 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.SelectorHitStat;
+import com.dapp.whoscored_scrapper.model.entity.SelectorStep;
+
+public interface SelectorHitStatRepository extends JpaRepository<SelectorHitStat, Long> {
+
+    Optional<SelectorHitStat> findByStepAndSelector(SelectorStep step, String selector);
+}
@@ -0,0 +1,46 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dapp.whoscored_scrapper.model.dto.TeamStatsDTO;
+import com.dapp.whoscored_scrapper.model.entity.Player;
+import com.dapp.whoscored_scrapper.model.entity.SquadPlayerStats;
+import com.dapp.whoscored_scrapper.model.entity.Team;
+
+public interface SquadPlayerStatsRepository extends JpaRepository<SquadPlayerStats, Long> {
+
+    List<SquadPlayerStats> findByTeam(Team team);
+
+    // Top-rated players of a team, served by idx_squad_stats_team_rating
+    @EntityGraph(attributePaths = "player")
+    List<SquadPlayerStats> findByTeamAndRatingNotNullOrderByRatingDesc(Team team, Pageable pageable);
+
+    void deleteByPlayerIn(List<Player> players);
+
+    @EntityGraph(attributePaths = {"player", "team"})
+    @Query("select s from SquadPlayerStats s where s.minsPlayed >= :minMinutes "
+            + "and (:team is null or s.team.lookupKey = :team) "
+            + "and (:position is null or lower(s.player.position) like concat('%', :position, '%'))")
+    Page<SquadPlayerStats> leaderboard(@Param("team") String team, @Param("position") String position,
+            @Param("minMinutes") int minMinutes, Pageable pageable);
+
+    // Keyset page for exports: stays as cheap on the last page as on the first
+    @Query("select s from SquadPlayerStats s join fetch s.player join fetch s.team t "
+            + "where s.id > :afterId and (:team is null or t.lookupKey = :team) order by s.id")
+    List<SquadPlayerStats> exportPage(@Param("team") String team, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select new com.dapp.whoscored_scrapper.model.dto.TeamStatsDTO(t.name, count(s), sum(s.minsPlayed), "
+            + "sum(s.goals), sum(s.assists), sum(s.yellowCards), sum(s.redCards), "
+            + "sum(case when s.rating is null then 0.0 else s.rating * s.minsPlayed end), "
+            + "sum(case when s.rating is null then 0 else s.minsPlayed end), t.lastScrapedAt) "
+            + "from SquadPlayerStats s join s.team t where t.lookupKey = :team group by t.id, t.name, t.lastScrapedAt")
+    Optional<TeamStatsDTO> teamTotals(@Param("team") String team);
+}
@@ -0,0 +1,12 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.Team;
+
+public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    Optional<Team> findByLookupKey(String lookupKey);
+}
@@ -0,0 +1,19 @@
+package com.dapp.whoscored_scrapper.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+
+public interface TrackedPlayerRepository extends JpaRepository<TrackedPlayer, Long> {
+
+    Optional<TrackedPlayer> findByLookupKey(String lookupKey);
+
+    List<TrackedPlayer> findByNextSyncAtLessThanEqualOrderByNextSyncAt(Instant now, Pageable pageable);
+
+    List<TrackedPlayer> findAllByOrderByName();
+}
@@ -1,92 +1,93 @@
 package com.dapp.whoscored_scrapper.service;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
-import com.microsoft.playwright.BrowserType;
+import com.dapp.whoscored_scrapper.model.entity.SelectorStep;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.TimeoutError;
 import com.microsoft.playwright.options.LoadState;
 import com.microsoft.playwright.options.WaitUntilState;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.Map;
-
 public abstract class AbstractWebService {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractWebService.class);
     protected static final String BASE_URL = "https://es.whoscored.com/";
-    protected static final String NOT_FOUND = "Not found";
-
-    protected Page createPage(Playwright playwright) {
-        System.setProperty("PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD", "1");
-        
-        Browser browser = playwright.chromium()
-                .launch(new BrowserType.LaunchOptions()
-                        .setHeadless(true)
-                        .setArgs(List.of(
-                                "--no-sandbox",
-                                "--disable-setuid-sandbox",
-                                "--disable-blink-features=AutomationControlled",
-                                "--disable-dev-shm-usage",
-                                "--disable-gpu",
-                                "--single-process",
-                                "--no-zygote",
-                                "--disable-web-security",
-                                "--disable-features=VizDisplayCompositor",
-                                "--disable-blink-features=AutomationControlled",
-                                "--disable-features=TranslateUI",
-                                "--disable-ipc-flooding-protection",
-                                "--no-first-run",
-                                "--disable-default-apps",
-                                "--disable-popup-blocking",
-                                "--disable-hang-monitor",
-                                "--disable-background-timer-throttling",
-                                "--disable-renderer-backgrounding",
-                                "--disable-backgrounding-occluded-windows"
-                        )));
-
-        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                .setUserAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                .setViewportSize(1920, 1080)
-                .setLocale("es-ES")
-                .setTimezoneId("Europe/Madrid")
-                .setJavaScriptEnabled(true)
-                .setIgnoreHTTPSErrors(true)
-                .setExtraHTTPHeaders(Map.of(
-                        "Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8",
-                        "Accept-Language", "es-ES,es;q=0.9,en;q=0.8",
-                        "Accept-Encoding", "gzip, deflate, br",
-                        "Cache-Control", "no-cache",
-                        "DNT", "1",
-                        "Sec-Fetch-Dest", "document",
-                        "Sec-Fetch-Mode", "navigate",
-                        "Sec-Fetch-Site", "none",
-                        "Upgrade-Insecure-Requests", "1"
-                )));
-
-        Page page = context.newPage();
+    public static final String NOT_FOUND = "Not found";
+
+    protected final BrowserPool browserPool;
+    protected final SessionStateStore sessionStore;
+    protected final PageReadiness readiness;
+    protected final ScrapeMetrics metrics;
+    protected final SelectorStrategyRegistry selectors;
+
+    protected AbstractWebService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors) {
+        this.browserPool = browserPool;
+        this.sessionStore = sessionStore;
+        this.readiness = readiness;
+        this.metrics = metrics;
+        this.selectors = selectors;
+    }
+
+    // Leases a browser whose context already carries the cleared session, when there is one
+    protected BrowserLease acquireBrowser() {
+        return metrics.phase("browser_acquire", () -> sessionStore.freshState()
+                .map(browserPool::acquire)
+                .orElseGet(browserPool::acquire));
+    }
+
+    protected Page createPage(BrowserLease lease) {
+        return createPage(lease, BASE_URL);
+    }
+
+    // Opens any WhoScored URL, dealing with Cloudflare and the cookie banner on the way
+    protected Page createPage(BrowserLease lease, String url) {
+        Page page = lease.newPage();
         page.setDefaultTimeout(120000); // 2 minutos
         page.setDefaultNavigationTimeout(120000);
+        load(lease, page, url, true);
+        return page;
+    }
+
+    // Reuses a tab that already went through createPage: the cookie banner is not looked for again,
+    // only a new Cloudflare challenge is handled
+    protected void navigate(BrowserLease lease, Page page, String url) {
+        load(lease, page, url, false);
+    }
 
+    private void load(BrowserLease lease, Page page, String url, boolean firstVisit) {
         try {
-            log.info("Navigating to: {}", BASE_URL);
+            log.info("Navigating to: {}", url);
 
-            // Navegar y manejar Cloudflare
-            page.navigate(BASE_URL, new Page.NavigateOptions()
-                    .setWaitUntil(WaitUntilState.NETWORKIDLE)
-                    .setTimeout(90000));
+            // Navegar y manejar Cloudflare. NETWORKIDLE casi nunca llega con el tráfico de anuncios de WhoScored,
+            // el challenge de Cloudflare ya es detectable con el documento cargado.
+            metrics.phase("navigate", () -> page.navigate(url, new Page.NavigateOptions()
+                    .setWaitUntil(WaitUntilState.DOMCONTENTLOADED)
+                    .setTimeout(90000)));
 
             // Verificar si estamos en Cloudflare
             String title = page.title();
-            log.info("Initial page title: {}", title);
+            log.info("Initial page title: {} (session restored: {})", title, lease.isSessionRestored());
 
-            if (isCloudflarePage(page)) {
+            boolean challenged = isCloudflarePage(page);
+            if (challenged) {
+                if (lease.isSessionRestored()) {
+                    sessionStore.invalidate();
+                }
                 log.warn("Cloudflare challenge detected, attempting to bypass...");
-                boolean bypassed = handleCloudflareChallenge(page);
+                boolean bypassed = metrics.phase("cloudflare", () -> handleCloudflareChallenge(page));
+                metrics.cloudflare(bypassed ? "bypassed" : "failed");
 
                 if (!bypassed) {
                     throw new RuntimeException("Cloudflare challenge could not be bypassed");
@@ -94,20 +95,28 @@ public abstract class AbstractWebService {
             }
 
             // Esperar a que la página real cargue
-            page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(30000));
-
-            // Manejar cookies después de pasar Cloudflare
-            handleCookiesWithMultipleSelectors(page);
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED, new Page.WaitForLoadStateOptions().setTimeout(30000));
+
+            // Una sesión restaurada ya trae el consentimiento de cookies
+            if ((firstVisit && !lease.isSessionRestored()) || challenged) {
+                // Manejar cookies después de pasar Cloudflare
+                metrics.phase("cookie_banner", () -> {
+                    handleCookiesWithMultipleSelectors(page);
+                    sessionStore.save(lease.context());
+                });
+            }
 
             log.info("Successfully bypassed Cloudflare and loaded WhoScored");
 
         } catch (Exception e) {
             log.error("Failed to load page: {}", e.getMessage());
-            // No cerrar el browser inmediatamente, podría estar en medio de un challenge
+            if (e instanceof TimeoutError) {
+                metrics.timeout("navigation");
+            }
+            // No reutilizar un browser que se quedó a mitad de un challenge
+            lease.markBroken();
             throw new RuntimeException("Failed to load WhoScored: " + e.getMessage(), e);
         }
-
-        return page;
     }
 
     private boolean isCloudflarePage(Page page) {
@@ -131,67 +140,28 @@ public abstract class AbstractWebService {
         try {
             log.info("Waiting for Cloudflare challenge to resolve...");
 
-            // Estrategia 1: Esperar a que Cloudflare redirija automáticamente
-            try {
-                page.waitForURL("**://es.whoscored.com/**", 
-                    new Page.WaitForURLOptions()
-                        .setTimeout(120000)
-                        .setWaitUntil(WaitUntilState.NETWORKIDLE));
-                log.info("Cloudflare auto-redirect successful");
+            // Estrategia 1: Esperar a que el challenge se resuelva solo (redirect o cambio de título)
+            if (readiness.await(WaitStep.CLOUDFLARE_CLEARED, page)) {
+                log.info("Cloudflare challenge resolved on its own");
                 return true;
-            } catch (Exception e) {
-                log.debug("Auto-redirect failed: {}", e.getMessage());
-            }
-
-            // Estrategia 2: Esperar a que el título cambie
-            try {
-                page.waitForFunction(
-                    "() => !document.title.includes('Cloudflare') && " +
-                    "!document.title.includes('Attention Required') && " +
-                    "!document.title.includes('Just a moment')",
-                    new Page.WaitForFunctionOptions().setTimeout(120000)
-                );
-                log.info("Cloudflare title change detected");
-                return true;
-            } catch (Exception e) {
-                log.debug("Title change wait failed: {}", e.getMessage());
             }
 
             // Estrategia 3: Intentar interactuar con elementos de Cloudflare
             try {
-                // Buscar y hacer click en el botón de verificación de Cloudflare
-                String[] challengeSelectors = {
-                    "input[type='submit'][value*='Verify']",
-                    "button[type*='submit']",
-                    ".btn-primary",
-                    "#challenge-form input[type='submit']",
-                    "a[role='button']",
-                    "[data-ray*='submit']"
-                };
-
-                for (String selector : challengeSelectors) {
-                    try {
-                        Locator button = page.locator(selector).first();
-                        if (button.isVisible(new Locator.IsVisibleOptions())) {
-                            log.info("Clicking Cloudflare challenge button: {}", selector);
-                            button.click(new Locator.ClickOptions().setTimeout(10000));
-
-                            // Esperar después del click
-                            page.waitForTimeout(5000);
-                            page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(30000));
-                            return true;
-                        }
-                    } catch (Exception e) {
-                        log.debug("Challenge selector {} failed: {}", selector, e.getMessage());
-                    }
+                Optional<String> selector = selectors.probe(page, SelectorStep.CLOUDFLARE_BUTTON);
+                if (selector.isPresent()) {
+                    Locator button = page.locator(selector.get()).first();
+                    log.info("Clicking Cloudflare challenge button: {}", selector.get());
+                    return readiness.await(WaitStep.CLOUDFLARE_AFTER_CLICK, page,
+                            () -> button.click(new Locator.ClickOptions().setTimeout(10000)));
                 }
             } catch (Exception e) {
                 log.debug("Challenge interaction failed: {}", e.getMessage());
             }
 
-            // Estrategia 4: Espera simple con timeout extendido
+            // Estrategia 4: Última espera, termina en cuanto el challenge desaparece
             log.info("Waiting extended time for Cloudflare...");
-            page.waitForTimeout(30000); // 30 segundos extra
+            readiness.await(WaitStep.CLOUDFLARE_AFTER_CLICK, page);
 
             // Verificar si finalmente cargó WhoScored
             String finalTitle = page.title();
@@ -210,37 +180,26 @@ public abstract class AbstractWebService {
     }
 
     private void handleCookiesWithMultipleSelectors(Page page) {
-        // MÁS selectores para cookies - WhoScored podría usar diferentes sistemas
-        String[] cookieSelectors = {
-            "button:has-text('Aceptar todo')",
-            "button:has-text('Accept All')", 
-            "button:has-text('Aceptar')",
-            "button:has-text('Accept')",
-            "button[aria-label*='cookie']",
-            "button[class*='cookie']",
-            ".cookie-banner button",
-            "#cookie-banner button",
-            "[data-testid*='cookie'] button",
-            ".qc-cmp2-summary-buttons button[mode='primary']",
-            "#onetrust-accept-btn-handler",
-            ".ot-sdk-row button:has-text('Aceptar')",
-            "button.js-cookie-notice-accept",  // Selector común
-            "a.cookie-accept",  // A veces es un link
-            "div.cookie button" // Selector genérico
-        };
-
-        for (String selector : cookieSelectors) {
-            try {
-                Locator cookieButton = page.locator(selector).first();
-                if (cookieButton.isVisible(new Locator.IsVisibleOptions())) {
-                    cookieButton.click(new Locator.ClickOptions().setTimeout(5000));
-                    log.info("Cookie banner accepted using selector: {}", selector);
-                    page.waitForTimeout(2000);
-                    return;
+        // Una sola espera cubre todos los candidatos; si no aparece ninguno no hay banner que cerrar
+        if (!readiness.await(WaitStep.COOKIE_BANNER_SHOWN, page)) {
+            log.warn("No cookie button found with any selector");
+            return;
+        }
+
+        try {
+            Optional<String> selector = selectors.probe(page, SelectorStep.COOKIE_BUTTON);
+            if (selector.isPresent()) {
+                if (!selectors.isPrimary(SelectorStep.COOKIE_BUTTON, selector.get())) {
+                    metrics.selectorFallback("cookie_button");
                 }
-            } catch (Exception e) {
-                log.debug("Cookie selector {} failed: {}", selector, e.getMessage());
+                Locator cookieButton = page.locator(selector.get()).first();
+                readiness.await(WaitStep.COOKIE_BANNER_DISMISSED, page,
+                        () -> cookieButton.click(new Locator.ClickOptions().setTimeout(5000)));
+                log.info("Cookie banner accepted using selector: {}", selector.get());
+                return;
             }
+        } catch (Exception e) {
+            log.debug("Cookie banner could not be dismissed: {}", e.getMessage());
         }
         log.warn("No cookie button found with any selector");
     }
@@ -249,35 +208,37 @@ public abstract class AbstractWebService {
         log.info("Searching for: {}", searchTerm);
 
         try {
-            // Esperar un poco más después de pasar Cloudflare
-            page.waitForTimeout(3000);
+            Locator searchInput = metrics.phase("search_input", () -> {
+                // Esperar a que el buscador del header esté visible
+                readiness.await(WaitStep.SEARCH_INPUT_READY, page);
 
-            Locator searchInput = findSearchInput(page);
+                Locator found = findSearchInput(page);
 
-            if (searchInput == null) {
-                // Último intento: buscar cualquier input que pueda ser de búsqueda
-                log.warn("Trying fallback search strategy...");
-                searchInput = findAnyInputForSearch(page);
-            }
+                if (found == null) {
+                    // Último intento: buscar cualquier input que pueda ser de búsqueda
+                    log.warn("Trying fallback search strategy...");
+                    metrics.selectorFallback("search_input_any");
+                    found = findAnyInputForSearch(page);
+                }
+                return found;
+            });
 
             if (searchInput == null) {
                 throw new RuntimeException("Search input not found");
             }
 
-            // Limpiar y escribir con más delays
+            // Limpiar y escribir; Playwright ya espera a que el input sea accionable
             searchInput.click(new Locator.ClickOptions().setTimeout(15000));
-            page.waitForTimeout(1000);
             searchInput.fill("");
-            page.waitForTimeout(500);
             searchInput.fill(searchTerm);
-            page.waitForTimeout(500);
 
-            // Presionar Enter
-            searchInput.press("Enter");
-
-            // Esperar a que los resultados carguen
-            page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(45000));
-            page.waitForTimeout(3000);
+            // Presionar Enter y esperar a que los resultados se rendericen
+            Locator input = searchInput;
+            boolean settled = metrics.phase("search_results",
+                    () -> readiness.await(WaitStep.SEARCH_RESULTS_READY, page, () -> input.press("Enter")));
+            if (!settled) {
+                log.warn("Search results for '{}' did not settle, continuing anyway", searchTerm);
+            }
 
             log.info("Search completed successfully");
 
@@ -336,39 +297,23 @@ public abstract class AbstractWebService {
     }
 
     private Locator findSearchInput(Page page) {
-        // MÁS selectores para el campo de búsqueda
-        String[] searchSelectors = {
-            "input[placeholder*='Buscar campeonatos']",
-            "input[placeholder*='Search']",
-            "input[name*='search']",
-            "input[type='search']",
-            "input[class*='search']",
-            ".search-input",
-            "#search-input",
-            "input#search",
-            "[data-testid*='search']",
-            "form[role='search'] input",
-            "input[aria-label*='search']",
-            "header input[type='text']",  // Buscar en el header
-            "nav input",  // Buscar en la navegación
-            ".header-search input",
-            "#header-search input"
-        };
-
-        for (String selector : searchSelectors) {
-            try {
-                Locator input = page.locator(selector).first();
-                if (input.isVisible(new Locator.IsVisibleOptions())) {
-                    log.info("Found search input using selector: {}", selector);
-                    return input;
+        try {
+            Optional<String> selector = selectors.probe(page, SelectorStep.SEARCH_INPUT);
+            if (selector.isPresent()) {
+                log.info("Found search input using selector: {}", selector.get());
+                if (!selectors.isPrimary(SelectorStep.SEARCH_INPUT, selector.get())) {
+                    metrics.selectorFallback("search_input");
                 }
-            } catch (Exception e) {
-                log.debug("Search selector {} failed: {}", selector, e.getMessage());
+                return page.locator(selector.get()).first();
             }
+        } catch (Exception e) {
+            log.debug("Search input probe failed: {}", e.getMessage());
         }
 
-        // DIAGNÓSTICO: Ver qué elementos hay en la página
-        logDiagnosticInfo(page);
+        // DIAGNÓSTICO: Ver qué elementos hay en la página (solo una muestra, son muchas idas y vueltas)
+        if (selectors.sampleDiagnostics()) {
+            logDiagnosticInfo(page);
+        }
 
         log.error("No search input found with any selector");
         return null;
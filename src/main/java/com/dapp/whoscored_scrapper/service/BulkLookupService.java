@@ -0,0 +1,115 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.config.BulkProperties;
+import com.dapp.whoscored_scrapper.model.dto.BulkItemDTO;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+
+// Fans a batch of lookups out over at most `parallelism` concurrent scrapes and hands each result
+// to the sink as soon as it completes, in completion order
+@Service
+public class BulkLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkLookupService.class);
+
+    private final BulkProperties properties;
+
+    public BulkLookupService(BulkProperties properties) {
+        this.properties = properties;
+    }
+
+    public List<String> validate(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            throw new IllegalArgumentException("At least one name is required");
+        }
+        // Same normalized name twice would only scrape once anyway, keep the first spelling
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                unique.putIfAbsent(NameNormalizer.normalize(name), name.trim());
+            }
+        }
+        if (unique.isEmpty()) {
+            throw new IllegalArgumentException("At least one name is required");
+        }
+        if (unique.size() > properties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxItems() + " names per request");
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    public void lookupAll(List<String> names, Function<String, ?> lookup, ItemSink sink) throws Exception {
+        Semaphore inFlight = new Semaphore(Math.max(1, properties.getParallelism()));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutorCompletionService<BulkItemDTO> completion = new ExecutorCompletionService<>(executor);
+            for (String name : names) {
+                completion.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        return lookupOne(name, lookup);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            for (int done = 0; done < names.size(); done++) {
+                BulkItemDTO item;
+                try {
+                    item = completion.take().get();
+                } catch (ExecutionException e) {
+                    // lookupOne never throws; only an interrupted permit wait gets here
+                    throw new IllegalStateException(e.getCause());
+                }
+                try {
+                    sink.accept(item);
+                } catch (Exception e) {
+                    // The client went away: stop what has not started yet and skip the rest
+                    log.info("Bulk client disconnected after {} of {} items", done, names.size());
+                    executor.shutdownNow();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static BulkItemDTO lookupOne(String name, Function<String, ?> lookup) {
+        long start = System.currentTimeMillis();
+        try {
+            Object result = lookup.apply(name);
+            return BulkItemDTO.builder()
+                    .name(name)
+                    .success(true)
+                    .result(result)
+                    .elapsedMs(System.currentTimeMillis() - start)
+                    .build();
+        } catch (Exception e) {
+            log.warn("Bulk lookup of '{}' failed: {}", name, e.getMessage());
+            return BulkItemDTO.builder()
+                    .name(name)
+                    .success(false)
+                    .error(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage())
+                    .elapsedMs(System.currentTimeMillis() - start)
+                    .build();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ItemSink {
+        void accept(BulkItemDTO item) throws Exception;
+    }
+}
@@ -0,0 +1,287 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.config.CacheProperties;
+import com.dapp.whoscored_scrapper.model.dto.GameMatchDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
+import com.dapp.whoscored_scrapper.model.entity.CacheRegion;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeAdmissionController;
+import com.dapp.whoscored_scrapper.service.cache.CacheEntry;
+import com.dapp.whoscored_scrapper.service.cache.ContentHasher;
+import com.dapp.whoscored_scrapper.service.cache.ContentVersion;
+import com.dapp.whoscored_scrapper.service.cache.ScrapeCache;
+import com.dapp.whoscored_scrapper.service.cache.Versioned;
+import com.dapp.whoscored_scrapper.service.persistence.FixtureStore;
+import com.dapp.whoscored_scrapper.service.persistence.SquadPersistenceService;
+import com.dapp.whoscored_scrapper.service.tracking.TrackedPlayerService;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+import com.dapp.whoscored_scrapper.utils.SingleFlight;
+import com.dapp.whoscored_scrapper.utils.StatParsers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Entry point of the API: answers from the cache and only scrapes WhoScored on a miss.
+// Concurrent misses for the same name share one scrape, and scrapes go through admission control.
+@Service
+public class CachedScrapeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedScrapeService.class);
+
+    private final TeamService teamService;
+    private final PlayerService playerService;
+    private final ScrapeCache scrapeCache;
+    private final ScrapeAdmissionController admission;
+    private final TrackedPlayerService trackedPlayerService;
+    private final SquadPersistenceService squadPersistenceService;
+    private final FixtureService fixtureService;
+    private final FixtureStore fixtureStore;
+    private final CacheProperties cacheProperties;
+    private final ContentHasher contentHasher;
+    private final SingleFlight<TeamDTO> teamLookups;
+    private final SingleFlight<PlayerDTO> playerLookups;
+    private final SingleFlight<Boolean> fixtureLookups;
+
+    public CachedScrapeService(TeamService teamService, PlayerService playerService, ScrapeCache scrapeCache,
+            ScrapeAdmissionController admission, TrackedPlayerService trackedPlayerService,
+            SquadPersistenceService squadPersistenceService, FixtureService fixtureService, FixtureStore fixtureStore,
+            CacheProperties cacheProperties, ContentHasher contentHasher, MeterRegistry meterRegistry) {
+        this.teamService = teamService;
+        this.playerService = playerService;
+        this.scrapeCache = scrapeCache;
+        this.admission = admission;
+        this.trackedPlayerService = trackedPlayerService;
+        this.squadPersistenceService = squadPersistenceService;
+        this.fixtureService = fixtureService;
+        this.fixtureStore = fixtureStore;
+        this.cacheProperties = cacheProperties;
+        this.contentHasher = contentHasher;
+        this.teamLookups = new SingleFlight<>("team", meterRegistry);
+        this.playerLookups = new SingleFlight<>("player", meterRegistry);
+        this.fixtureLookups = new SingleFlight<>("fixtures", meterRegistry);
+    }
+
+    public TeamDTO getTeam(String teamName) {
+        String key = NameNormalizer.normalize(teamName);
+        return cachedTeam(teamName, key).orElseGet(() -> teamLookups.execute(key, () ->
+                // A lookup that finished while this one was on its way here may already have filled the cache
+                cachedTeam(teamName, key).orElseGet(() -> scrapeTeam(teamName, key))));
+    }
+
+    public PlayerDTO getPlayer(String playerName) {
+        // Tracked players are kept fresh in the background, the store is always the answer for them
+        Optional<PlayerDTO> tracked = trackedPlayerService.findStored(playerName);
+        if (tracked.isPresent()) {
+            log.info("Player '{}' served from the tracked player store", playerName);
+            return tracked.get();
+        }
+        String key = NameNormalizer.normalize(playerName);
+        return cachedPlayer(playerName, key).orElseGet(() -> playerLookups.execute(key, () ->
+                cachedPlayer(playerName, key).orElseGet(() -> scrapePlayer(playerName, key))));
+    }
+
+    // Version of what getTeam would answer right now, without building the response; empty when it is not stored
+    public Optional<ContentVersion> knownTeamVersion(String teamName) {
+        return scrapeCache.get(CacheRegion.TEAM, NameNormalizer.normalize(teamName), TeamDTO.class)
+                .map(CacheEntry::version);
+    }
+
+    public Optional<ContentVersion> knownPlayerVersion(String playerName) {
+        Optional<ContentVersion> tracked = trackedPlayerService.storedVersion(playerName);
+        if (tracked.isPresent()) {
+            return tracked;
+        }
+        String key = NameNormalizer.normalize(playerName);
+        Optional<CacheEntry> profile = scrapeCache.get(CacheRegion.PLAYER_PROFILE, key, PlayerDTO.class);
+        Optional<CacheEntry> matches = scrapeCache.get(CacheRegion.PLAYER_MATCH_STATS, key, PlayerMatchStatsDTO[].class);
+        if (profile.isEmpty() || matches.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant lastModified = profile.get().storedAt().isAfter(matches.get().storedAt())
+                ? profile.get().storedAt()
+                : matches.get().storedAt();
+        return Optional.of(new ContentVersion(contentHasher.combine(profile.get().etag(), matches.get().etag()), lastModified));
+    }
+
+    // The lookup fills the cache, so the version normally comes from the entry just stored; hashing the
+    // value is only the fallback when the entry is already gone (zero TTL, invalidated meanwhile)
+    public Versioned<TeamDTO> getTeamVersioned(String teamName) {
+        TeamDTO team = getTeam(teamName);
+        return new Versioned<>(team, knownTeamVersion(teamName)
+                .orElseGet(() -> new ContentVersion(contentHasher.etag(team), Instant.now())));
+    }
+
+    public Versioned<PlayerDTO> getPlayerVersioned(String playerName) {
+        PlayerDTO player = getPlayer(playerName);
+        return new Versioned<>(player, knownPlayerVersion(playerName)
+                .orElseGet(() -> new ContentVersion(contentHasher.etag(player), Instant.now())));
+    }
+
+    // Same sources as getPlayer; rows are filtered by since/limit (0 = no limit) while they are streamed
+    public PlayerStream streamPlayer(String playerName, LocalDate since, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        Optional<PlayerStream> tracked = trackedPlayerService.streamStored(playerName, since, limit);
+        if (tracked.isPresent()) {
+            log.info("Player '{}' streamed from the tracked player store", playerName);
+            return tracked.get();
+        }
+        PlayerDTO player = getPlayer(playerName);
+        List<PlayerMatchStatsDTO> rows = player.getMatchStats() == null ? List.of() : player.getMatchStats();
+        return new PlayerStream(copyProfile(player), sink -> {
+            int written = 0;
+            for (PlayerMatchStatsDTO row : rows) {
+                if (limit > 0 && written == limit) {
+                    return;
+                }
+                if (since != null) {
+                    LocalDate date = StatParsers.parseMatchDate(row.getDate());
+                    if (date == null || date.isBefore(since)) {
+                        continue;
+                    }
+                }
+                sink.accept(row);
+                written++;
+            }
+        });
+    }
+
+    // Fixtures are served from the store, re-scraped only once a listed match has been played (or fixturesTtl passed)
+    public Page<GameMatchDTO> getFixtures(String teamName, int page, int size) {
+        if (teamName == null || teamName.isBlank()) {
+            throw new IllegalArgumentException("teamName is required");
+        }
+        if (fixtureStore.needsRefresh(teamName)) {
+            fixtureLookups.execute(NameNormalizer.normalize(teamName), () -> {
+                if (fixtureStore.needsRefresh(teamName)) {
+                    List<GameMatchDTO> fixtures = admission.admit(() -> fixtureService.getFixturesByTeamName(teamName));
+                    fixtureStore.save(teamName, fixtures);
+                }
+                return Boolean.TRUE;
+            });
+        }
+        PageRequest pageRequest = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, 100)),
+                Sort.by(Sort.Order.desc("matchDate").nullsLast(), Sort.Order.asc("id")));
+        return fixtureStore.page(teamName, pageRequest).orElse(Page.empty(pageRequest));
+    }
+
+    // Stores a team scraped outside getTeam (league crawl) as if it had been looked up by name,
+    // and by the name on its page when that differs
+    public void storeTeam(String teamName, TeamDTO team) {
+        persist(teamName, team);
+        Duration ttl = fixtureAwareTtl(CacheRegion.TEAM, teamName, team.getName());
+        scrapeCache.put(CacheRegion.TEAM, NameNormalizer.normalize(teamName), team, ttl);
+        if (team.getName() != null && !AbstractWebService.NOT_FOUND.equals(team.getName())) {
+            scrapeCache.put(CacheRegion.TEAM, NameNormalizer.normalize(team.getName()), team, ttl);
+        }
+    }
+
+    public void invalidateTeam(String teamName) {
+        scrapeCache.invalidate(CacheRegion.TEAM, NameNormalizer.normalize(teamName));
+    }
+
+    public void invalidatePlayer(String playerName) {
+        String key = NameNormalizer.normalize(playerName);
+        scrapeCache.invalidate(CacheRegion.PLAYER_PROFILE, key);
+        scrapeCache.invalidate(CacheRegion.PLAYER_MATCH_STATS, key);
+    }
+
+    public void invalidateAll() {
+        scrapeCache.invalidateAll();
+    }
+
+    public long coalescedLookups() {
+        return (long) (teamLookups.coalescedCount() + playerLookups.coalescedCount());
+    }
+
+    private Optional<TeamDTO> cachedTeam(String teamName, String key) {
+        Optional<CacheEntry> cached = scrapeCache.get(CacheRegion.TEAM, key, TeamDTO.class);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        log.info("Team '{}' served from cache", teamName);
+        return Optional.of(cached.get().valueAs(TeamDTO.class));
+    }
+
+    private TeamDTO scrapeTeam(String teamName, String key) {
+        TeamDTO team = admission.admit(() -> teamService.getTeamInfoByName(teamName));
+        persist(teamName, team);
+        scrapeCache.put(CacheRegion.TEAM, key, team, fixtureAwareTtl(CacheRegion.TEAM, teamName, team.getName()));
+        return team;
+    }
+
+    // The typed copy is for queries; failing to write it must not fail the lookup that produced it
+    private void persist(String teamName, TeamDTO team) {
+        try {
+            squadPersistenceService.saveTeam(teamName, team);
+        } catch (RuntimeException e) {
+            log.warn("Could not persist team '{}': {}", teamName, e.getMessage());
+        }
+    }
+
+    // Profile and match stats expire independently, a hit needs both
+    private Optional<PlayerDTO> cachedPlayer(String playerName, String key) {
+        Optional<CacheEntry> profile = scrapeCache.get(CacheRegion.PLAYER_PROFILE, key, PlayerDTO.class);
+        Optional<CacheEntry> matches = scrapeCache.get(CacheRegion.PLAYER_MATCH_STATS, key, PlayerMatchStatsDTO[].class);
+        if (profile.isEmpty() || matches.isEmpty()) {
+            return Optional.empty();
+        }
+        log.info("Player '{}' served from cache", playerName);
+        PlayerDTO player = copyProfile(profile.get().valueAs(PlayerDTO.class));
+        player.setMatchStats(List.of(matches.get().valueAs(PlayerMatchStatsDTO[].class)));
+        return Optional.of(player);
+    }
+
+    private PlayerDTO scrapePlayer(String playerName, String key) {
+        PlayerDTO player = admission.admit(() -> playerService.getPlayerInfoByName(playerName));
+        scrapeCache.put(CacheRegion.PLAYER_PROFILE, key, copyProfile(player));
+        scrapeCache.put(CacheRegion.PLAYER_MATCH_STATS, key,
+                player.getMatchStats() == null ? new PlayerMatchStatsDTO[0] : player.getMatchStats().toArray(PlayerMatchStatsDTO[]::new),
+                fixtureAwareTtl(CacheRegion.PLAYER_MATCH_STATS, player.getCurrentTeam()));
+        return player;
+    }
+
+    // Until shortly after the team's next match: nothing changes between matches, and stats do right after one
+    private Duration fixtureAwareTtl(CacheRegion region, String... teamNames) {
+        Duration ttl = scrapeCache.ttl(region);
+        if (!cacheProperties.isFixtureAware()) {
+            return ttl;
+        }
+        for (String teamName : teamNames) {
+            Optional<Instant> refreshAt = fixtureStore.nextRefreshAt(teamName);
+            if (refreshAt.isPresent()) {
+                Duration untilRefresh = Duration.between(Instant.now(), refreshAt.get());
+                return untilRefresh.compareTo(cacheProperties.getMaxFixtureTtl()) > 0
+                        ? cacheProperties.getMaxFixtureTtl()
+                        : untilRefresh;
+            }
+        }
+        return ttl;
+    }
+
+    private static PlayerDTO copyProfile(PlayerDTO source) {
+        PlayerDTO profile = new PlayerDTO();
+        profile.setName(source.getName());
+        profile.setShirtNumber(source.getShirtNumber());
+        profile.setAge(source.getAge());
+        profile.setHeight(source.getHeight());
+        profile.setPositions(source.getPositions());
+        profile.setNationality(source.getNationality());
+        profile.setCurrentTeam(source.getCurrentTeam());
+        return profile;
+    }
+}
@@ -0,0 +1,59 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Declarative description of how the cells of a table row become a DTO.
+// Selectors are relative to the row; each distinct selector is read once per row.
+public final class ColumnMapping<B, T> {
+
+    private final Supplier<B> factory;
+    private final Function<B, T> finisher;
+    private final List<String> selectors = new ArrayList<>();
+    private final List<BiConsumer<B, List<String>>> binders = new ArrayList<>();
+
+    private ColumnMapping(Supplier<B> factory, Function<B, T> finisher) {
+        this.factory = factory;
+        this.finisher = finisher;
+    }
+
+    public static <B, T> ColumnMapping<B, T> of(Supplier<B> factory, Function<B, T> finisher) {
+        return new ColumnMapping<>(factory, finisher);
+    }
+
+    public ColumnMapping<B, T> column(String selector, BiConsumer<B, String> setter) {
+        int index = indexOf(selector);
+        binders.add((builder, cells) -> setter.accept(builder, cells.get(index)));
+        return this;
+    }
+
+    // For values derived from several cells, e.g. opponent = link text minus the scoreline
+    public ColumnMapping<B, T> columns(List<String> columnSelectors, BiConsumer<B, List<String>> setter) {
+        List<Integer> indexes = columnSelectors.stream().map(this::indexOf).toList();
+        binders.add((builder, cells) -> setter.accept(builder, indexes.stream().map(cells::get).toList()));
+        return this;
+    }
+
+    public List<String> selectors() {
+        return Collections.unmodifiableList(selectors);
+    }
+
+    public T map(List<String> cells) {
+        B builder = factory.get();
+        binders.forEach(binder -> binder.accept(builder, cells));
+        return finisher.apply(builder);
+    }
+
+    private int indexOf(String selector) {
+        int index = selectors.indexOf(selector);
+        if (index >= 0) {
+            return index;
+        }
+        selectors.add(selector);
+        return selectors.size() - 1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.model.entity.EntityLink;
+import com.dapp.whoscored_scrapper.repository.EntityLinkRepository;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+
+// Remembers where each successful search landed so repeated lookups can skip the search page
+@Service
+public class EntityUrlResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityUrlResolver.class);
+    private static final Pattern ENTITY_URL = Pattern.compile("/(Teams|Players)/(\\d+)(/.*)?$");
+
+    private final EntityLinkRepository entityLinkRepository;
+
+    public EntityUrlResolver(EntityLinkRepository entityLinkRepository) {
+        this.entityLinkRepository = entityLinkRepository;
+    }
+
+    @Transactional
+    public Optional<String> resolve(EntityKind kind, String name) {
+        return entityLinkRepository.findByKindAndLookupKey(kind, NameNormalizer.normalize(name))
+                .map(link -> {
+                    link.setHits(link.getHits() + 1);
+                    link.setLastResolvedAt(Instant.now());
+                    return link.getUrl();
+                });
+    }
+
+    // Not @Transactional: the save runs in its own transaction so a lost insert race can be caught here
+    public void learn(EntityKind kind, String name, String url) {
+        Optional<Long> whoscoredId = extractId(kind, url);
+        if (whoscoredId.isEmpty()) {
+            log.warn("Not learning '{}': {} is not a WhoScored {} page", name, url, kind);
+            return;
+        }
+        String lookupKey = NameNormalizer.normalize(name);
+        EntityLink link = entityLinkRepository.findByKindAndLookupKey(kind, lookupKey).orElseGet(EntityLink::new);
+        link.setKind(kind);
+        link.setLookupKey(lookupKey);
+        link.setWhoscoredId(whoscoredId.get());
+        link.setUrl(url);
+        link.setLastResolvedAt(Instant.now());
+        try {
+            entityLinkRepository.saveAndFlush(link);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first lookup of the same name inserted the link first; theirs is just as good
+            log.debug("{} '{}' was learned concurrently", kind, name);
+            return;
+        }
+        log.info("Learned {} '{}' -> {}", kind, name, url);
+    }
+
+    // Drops a link whose page no longer looks right (renamed slug, removed player...)
+    @Transactional
+    public void forget(EntityKind kind, String name) {
+        entityLinkRepository.deleteByKindAndLookupKey(kind, NameNormalizer.normalize(name));
+    }
+
+    static Optional<Long> extractId(EntityKind kind, String url) {
+        if (url == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = ENTITY_URL.matcher(url.split("[?#]")[0]);
+        if (!matcher.find() || !matcher.group(1).equals(kind.getPathSegment())) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.parseLong(matcher.group(2)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.model.dto.GameMatchDTO;
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPoolExhaustedException;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+import com.microsoft.playwright.Page;
+
+// Scrapes a team's fixtures page (results and upcoming matches) into GameMatchDTOs
+@Service
+public class FixtureService extends AbstractWebService {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureService.class);
+
+    // Rows list home and away teams; the DTO's actual/rival sides are sorted out afterwards in orient()
+    static final ColumnMapping<GameMatchDTO.GameMatchDTOBuilder, GameMatchDTO> FIXTURE_COLUMNS =
+            ColumnMapping.of(GameMatchDTO::builder, GameMatchDTO.GameMatchDTOBuilder::build)
+                    .column("div.tournament", (match, cup) -> match.cup(cup.trim()))
+                    .column("div.date", (match, date) -> match.date(date.trim()))
+                    .column("div.team.home a.team-link", (match, home) -> match.actualTeam(home.trim()))
+                    .column("div.team.away a.team-link", (match, away) -> match.rivalTeam(away.trim()))
+                    .column("div.team.home span.rcard", GameMatchDTO.GameMatchDTOBuilder::redCardsActualTeam)
+                    .column("div.team.away span.rcard", GameMatchDTO.GameMatchDTOBuilder::redCardsRivalTeam)
+                    .column("div.result", (match, score) -> match.score(score.trim()))
+                    .column("div.form-fixtures", (match, result) -> match.result(result.trim()));
+
+    private final TeamService teamService;
+    private final EntityUrlResolver entityUrlResolver;
+
+    public FixtureService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors,
+            TeamService teamService, EntityUrlResolver entityUrlResolver) {
+        super(browserPool, sessionStore, readiness, metrics, selectors);
+        this.teamService = teamService;
+        this.entityUrlResolver = entityUrlResolver;
+    }
+
+    public List<GameMatchDTO> getFixturesByTeamName(String teamName) {
+        return metrics.operation("fixtures_lookup", () -> lookupFixtures(teamName));
+    }
+
+    private List<GameMatchDTO> lookupFixtures(String teamName) {
+        try (BrowserLease lease = acquireBrowser()) {
+            Page page = openFixturesPage(lease, teamName);
+            String pageTeam = extractText(page, WhoScoredSelectors.TEAM_HEADER);
+            String actualTeam = NOT_FOUND.equals(pageTeam) ? teamName : pageTeam;
+
+            List<GameMatchDTO> fixtures = TableExtractor.extract(page, WhoScoredSelectors.FIXTURE_ROWS, FIXTURE_COLUMNS)
+                    .stream()
+                    .map(match -> orient(match, actualTeam))
+                    .toList();
+            log.info("Read {} fixtures of '{}'", fixtures.size(), actualTeam);
+            return fixtures;
+        } catch (IllegalArgumentException | BrowserPoolExhaustedException e) {
+            throw e;
+        } catch (com.microsoft.playwright.TimeoutError e) {
+            log.error("Team '{}' not found in search results or timed out.", teamName, e);
+            throw new IllegalArgumentException("Team with name '" + teamName + "' not found.");
+        } catch (Exception e) {
+            log.error("An error occurred during scraping fixtures for team: {}", teamName, e);
+            throw new RuntimeException("An unexpected error occurred while fetching team fixtures.", e);
+        }
+    }
+
+    // A known team URL goes straight to /Fixtures/; otherwise the team page is found the usual way first
+    private Page openFixturesPage(BrowserLease lease, String teamName) {
+        Optional<String> knownUrl = entityUrlResolver.resolve(EntityKind.TEAM, teamName);
+        if (knownUrl.isPresent()) {
+            Page page = createPage(lease, fixturesUrl(knownUrl.get()));
+            if (readiness.await(WaitStep.FIXTURES_READY, page)) {
+                return page;
+            }
+            log.warn("Fixtures of '{}' did not load from the known URL, opening the team page", teamName);
+            page.close();
+        }
+        Page page = teamService.openTeamPage(lease, teamName);
+        navigate(lease, page, fixturesUrl(page.url()));
+        if (!readiness.await(WaitStep.FIXTURES_READY, page)) {
+            throw new IllegalStateException("Fixtures page of '" + teamName + "' did not load");
+        }
+        return page;
+    }
+
+    // /Teams/52/Show/Spain-Real-Madrid -> /Teams/52/Fixtures/Spain-Real-Madrid
+    static String fixturesUrl(String teamUrl) {
+        return teamUrl.replaceFirst("(/Teams/\\d+)/[^/]+/", "$1/Fixtures/");
+    }
+
+    // Puts the scraped team on the "actual" side, swapping home and away when it played away
+    static GameMatchDTO orient(GameMatchDTO match, String actualTeam) {
+        String team = NameNormalizer.normalize(actualTeam);
+        boolean playedAway = NameNormalizer.normalize(match.getRivalTeam()).equals(team)
+                || (!NameNormalizer.normalize(match.getActualTeam()).equals(team)
+                        && NameNormalizer.normalize(match.getRivalTeam()).contains(team));
+        if (playedAway) {
+            String home = match.getActualTeam();
+            String homeRedCards = match.getRedCardsActualTeam();
+            match.setActualTeam(match.getRivalTeam());
+            match.setRivalTeam(home);
+            match.setRedCardsActualTeam(match.getRedCardsRivalTeam());
+            match.setRedCardsRivalTeam(homeRedCards);
+        }
+        // No red cards leaves the span out of the row
+        if (NOT_FOUND.equals(match.getRedCardsActualTeam())) {
+            match.setRedCardsActualTeam("0");
+        }
+        if (NOT_FOUND.equals(match.getRedCardsRivalTeam())) {
+            match.setRedCardsRivalTeam("0");
+        }
+        return match;
+    }
+}
@@ -0,0 +1,209 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.dapp.whoscored_scrapper.config.ExtractionProperties;
+import com.dapp.whoscored_scrapper.config.ReplayProperties;
+import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.service.http.SessionHttpClient;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// First tier of a team lookup: the squad's StatisticsFeed JSON over plain HTTP, after a search when the team URL
+// is not known yet. Empty means "use the browser": no session, a challenge, or a feed without rows.
+@Component
+public class HttpTeamFetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTeamFetcher.class);
+    private static final String TIER = "http";
+    private static final String TEAM_RESULTS = WhoScoredSelectors.SEARCH_RESULTS + ":has(h2:contains(Equipos))";
+    private static final Pattern TEAM_ID = Pattern.compile("/Teams/(\\d+)/");
+
+    private final SessionHttpClient httpClient;
+    private final EntityUrlResolver entityUrlResolver;
+    private final StatsFeedReader statsFeedReader;
+    private final ExtractionProperties extractionProperties;
+    private final ReplayProperties replayProperties;
+    private final ObjectMapper objectMapper;
+    private final ScrapeMetrics metrics;
+
+    public HttpTeamFetcher(SessionHttpClient httpClient, EntityUrlResolver entityUrlResolver,
+            StatsFeedReader statsFeedReader, ExtractionProperties extractionProperties, ReplayProperties replayProperties,
+            ObjectMapper objectMapper, ScrapeMetrics metrics) {
+        this.httpClient = httpClient;
+        this.entityUrlResolver = entityUrlResolver;
+        this.statsFeedReader = statsFeedReader;
+        this.extractionProperties = extractionProperties;
+        this.replayProperties = replayProperties;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    public Optional<TeamDTO> fetch(String teamName) {
+        // DOM mode reads the rendered table, which only the browser has. Recording and replaying go through the
+        // browser's HARs, which plain HTTP would bypass
+        if (!httpClient.isEnabled() || !statsFeedReader.isEnabled()
+                || replayProperties.getMode() != ReplayProperties.Mode.OFF) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            TeamDTO team = fetchTeam(teamName);
+            log.info("Team '{}' fetched over HTTP with {} players", teamName, team.getSquad().size());
+            return Optional.of(team);
+        } catch (Escalation e) {
+            outcome = e.outcome;
+            log.info("HTTP tier escalating team '{}' to the browser: {}", teamName, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "error";
+            return Optional.empty();
+        } catch (Exception e) {
+            outcome = "error";
+            log.warn("HTTP tier failed for team '{}': {}", teamName, e.getMessage());
+            return Optional.empty();
+        } finally {
+            metrics.tier(TIER, outcome, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private TeamDTO fetchTeam(String teamName) throws Exception {
+        Optional<String> knownUrl = entityUrlResolver.resolve(EntityKind.TEAM, teamName);
+        URI teamUrl = knownUrl.isPresent() ? URI.create(knownUrl.get()) : searchTeam(teamName);
+
+        Matcher teamId = TEAM_ID.matcher(teamUrl.getPath());
+        if (!teamId.find()) {
+            throw new Escalation("missing_data", "no team id in " + teamUrl);
+        }
+
+        JsonNode firstPage = readFeed(squadFeedUrl(teamId.group(1), 1), teamUrl);
+        List<TeamPlayerDTO> squad = new ArrayList<>(statsFeedReader.squadRows(firstPage));
+        int totalPages = statsFeedReader.pageCount(firstPage);
+        for (int pageNumber = 2; pageNumber <= totalPages; pageNumber++) {
+            squad.addAll(statsFeedReader.squadRows(readFeed(squadFeedUrl(teamId.group(1), pageNumber), teamUrl)));
+        }
+        if (squad.isEmpty()) {
+            throw new Escalation("missing_data", "squad feed has no rows");
+        }
+        // Learned only once the URL has proved to lead to a squad
+        if (knownUrl.isEmpty()) {
+            entityUrlResolver.learn(EntityKind.TEAM, teamName, teamUrl.toString());
+        }
+        TeamDTO team = new TeamDTO();
+        team.setName(firstPage.path("playerTableStats").path(0).path("teamName").asText(teamName));
+        team.setSquad(squad);
+        return team;
+    }
+
+    // The request the team page's squad table sends: summary stats of the current season, every player
+    private URI squadFeedUrl(String teamId, int pageNumber) {
+        return UriComponentsBuilder.fromUriString(AbstractWebService.BASE_URL)
+                .replacePath(extractionProperties.getSquadFeedPath())
+                .queryParam("category", "summary")
+                .queryParam("subcategory", "all")
+                .queryParam("statsAccumulationType", 0)
+                .queryParam("isCurrent", true)
+                .queryParam("teamIds", teamId)
+                .queryParam("sortBy", "Rating")
+                .queryParam("field", "Overall")
+                .queryParam("isMinApp", false)
+                .queryParam("includeZeroValues", true)
+                .queryParam("page", pageNumber)
+                .build()
+                .toUri();
+    }
+
+    private JsonNode readFeed(URI feedUrl, URI teamUrl) throws Exception {
+        Optional<HttpResponse<InputStream>> response = httpClient.getFeed(feedUrl, teamUrl);
+        if (response.isEmpty()) {
+            throw new Escalation("no_session", "no cleared session to reuse");
+        }
+        HttpResponse<InputStream> feed = response.get();
+        try (InputStream body = feed.body()) {
+            if (SessionHttpClient.isChallenge(feed) || feed.statusCode() != 200) {
+                throw new Escalation(SessionHttpClient.isChallenge(feed) ? "challenge" : "error",
+                        "HTTP " + feed.statusCode() + " from " + feedUrl);
+            }
+            // A challenge can also come back as a 200 HTML page
+            if (!feed.headers().firstValue("Content-Type").orElse("").contains("json")) {
+                throw new Escalation("challenge", "no JSON from " + feedUrl);
+            }
+            return objectMapper.readTree(body);
+        }
+    }
+
+    private URI searchTeam(String teamName) throws Exception {
+        URI searchUrl = URI.create(AbstractWebService.BASE_URL + "Search/?t="
+                + URLEncoder.encode(teamName, StandardCharsets.UTF_8));
+        try (StreamParser parser = open(searchUrl)) {
+            Element results = parser.selectNext(TEAM_RESULTS);
+            if (results == null) {
+                throw missing(parser, "no team results for '" + teamName + "'");
+            }
+            Element link = results.selectFirst("tbody tr:nth-child(2) a");
+            if (link == null) {
+                link = results.selectFirst("tbody tr:nth-child(1) a");
+            }
+            if (link == null || link.absUrl("href").isEmpty()) {
+                throw new Escalation("missing_data", "team result without a link");
+            }
+            return URI.create(link.absUrl("href"));
+        }
+    }
+
+    private StreamParser open(URI uri) throws Exception {
+        Optional<HttpResponse<InputStream>> response = httpClient.get(uri);
+        if (response.isEmpty()) {
+            throw new Escalation("no_session", "no cleared session to reuse");
+        }
+        HttpResponse<InputStream> page = response.get();
+        if (SessionHttpClient.isChallenge(page) || page.statusCode() != 200) {
+            page.body().close();
+            throw new Escalation(SessionHttpClient.isChallenge(page) ? "challenge" : "error",
+                    "HTTP " + page.statusCode() + " from " + uri);
+        }
+        return new StreamParser(Parser.htmlParser())
+                .parse(new InputStreamReader(page.body(), StandardCharsets.UTF_8), page.uri().toString());
+    }
+
+    // The parser has read the whole document by now, so the title tells a challenge from a changed page
+    private static Escalation missing(StreamParser parser, String detail) {
+        if (SessionHttpClient.isChallengeTitle(parser.document().title())) {
+            return new Escalation("challenge", "challenge page instead of content");
+        }
+        return new Escalation("missing_data", detail);
+    }
+
+    private static class Escalation extends Exception {
+        private final String outcome;
+
+        Escalation(String outcome, String message) {
+            super(message, null, false, false);
+            this.outcome = outcome;
+        }
+    }
+}
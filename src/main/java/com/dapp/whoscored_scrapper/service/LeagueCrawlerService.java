@@ -0,0 +1,232 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.config.CrawlerProperties;
+import com.dapp.whoscored_scrapper.model.dto.LeagueCrawlDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeAdmissionController;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
+import com.microsoft.playwright.Page;
+
+// Scrapes every team of a tournament page. Workers go straight to each team page (no search) in one warm tab
+// each, taking an admission slot per team rather than for the whole crawl.
+@Service
+public class LeagueCrawlerService extends AbstractWebService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeagueCrawlerService.class);
+
+    private final TeamService teamService;
+    private final CachedScrapeService cachedScrapeService;
+    private final EntityUrlResolver entityUrlResolver;
+    private final ScrapeAdmissionController admission;
+    private final CrawlerProperties properties;
+
+    public LeagueCrawlerService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors,
+            TeamService teamService, CachedScrapeService cachedScrapeService, EntityUrlResolver entityUrlResolver,
+            ScrapeAdmissionController admission, CrawlerProperties properties) {
+        super(browserPool, sessionStore, readiness, metrics, selectors);
+        this.teamService = teamService;
+        this.cachedScrapeService = cachedScrapeService;
+        this.entityUrlResolver = entityUrlResolver;
+        this.admission = admission;
+        this.properties = properties;
+    }
+
+    public LeagueCrawlDTO crawl(String tournamentUrl, int parallelism) {
+        validate(tournamentUrl);
+        return metrics.operation("league_crawl", () -> crawlValidated(tournamentUrl, parallelism));
+    }
+
+    private LeagueCrawlDTO crawlValidated(String tournamentUrl, int parallelism) {
+        int workers = Math.max(1, Math.min(parallelism, properties.getMaxParallelism()));
+        long start = System.currentTimeMillis();
+
+        Map<Integer, TeamDTO> teams = new ConcurrentHashMap<>();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        List<TeamLink> links = admission.admit(() -> {
+            try (BrowserLease lease = acquireBrowser()) {
+                return discoverTeams(createPage(lease, tournamentUrl));
+            }
+        });
+        log.info("Tournament {}: {} teams, crawling with {} worker(s)", tournamentUrl, links.size(), workers);
+
+        Queue<TeamLink> pending = new ConcurrentLinkedQueue<>(links);
+        try (ExecutorService crawlWorkers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> started = new ArrayList<>();
+            for (int i = 0; i < workers && i < links.size(); i++) {
+                // Already accepted: each team waits its turn for a slot instead of being rejected
+                started.add(crawlWorkers.submit(() -> admission.background(() -> {
+                    crawlTeams(pending, teams, failures);
+                    return null;
+                })));
+            }
+            for (Future<?> worker : started) {
+                worker.get();
+            }
+        } catch (Exception e) {
+            log.warn("League crawl worker failed: {}", e.getMessage());
+        }
+
+        List<TeamDTO> ordered = new ArrayList<>();
+        for (TeamLink link : links) {
+            TeamDTO team = teams.get(link.index());
+            if (team != null) {
+                ordered.add(team);
+            } else {
+                failures.putIfAbsent(link.name(), "Not crawled");
+            }
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Crawled {} of {} teams from {} in {} ms", ordered.size(), links.size(), tournamentUrl, elapsed);
+        return LeagueCrawlDTO.builder()
+                .tournamentUrl(tournamentUrl)
+                .teamsFound(links.size())
+                .teams(ordered)
+                .failures(new LinkedHashMap<>(failures))
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    // Each worker keeps one lease and one tab for its share of teams and navigates that tab from team to team, so
+    // the session is set up once per worker. Only the admission slot is given back between teams, which lets API
+    // lookups interleave with a long crawl. A lease holds a whole pooled browser, so the tab is also given back
+    // before waiting for a slot and whenever someone queues for a browser; otherwise an API lookup holding a slot
+    // and a worker holding the browser would wait on each other.
+    private void crawlTeams(Queue<TeamLink> pending, Map<Integer, TeamDTO> teams, Map<String, String> failures) {
+        CrawlTab tab = new CrawlTab();
+        try {
+            TeamLink link;
+            while ((link = pending.poll()) != null) {
+                TeamLink team = link;
+                try {
+                    if (!admission.tryAdmit(() -> crawlTeam(tab, team, teams))) {
+                        tab.close();
+                        admission.admit(() -> {
+                            crawlTeam(tab, team, teams);
+                            return null;
+                        });
+                    }
+                    if (browserPool.hasWaiters()) {
+                        tab.close();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Could not crawl team '{}' at {}: {}", team.name(), team.url(), e.getMessage());
+                    failures.put(team.name(), e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+                    // The tab may be stuck on a challenge or a broken page: the next team starts from a fresh one
+                    tab.close();
+                }
+            }
+        } finally {
+            tab.close();
+        }
+    }
+
+    private void crawlTeam(CrawlTab tab, TeamLink link, Map<Integer, TeamDTO> teams) {
+        Page page = tab.open(link.url());
+        if (!readiness.await(WaitStep.TEAM_PAGE_READY, page)) {
+            throw new IllegalStateException("team page did not load");
+        }
+
+        TeamDTO team = new TeamDTO();
+        team.setName(extractText(page, WhoScoredSelectors.TEAM_HEADER));
+        team.setSquad(teamService.extractSquad(page, tab.feedCapture));
+        teams.put(link.index(), team);
+
+        // Later lookups by either name go straight to the page or the cache
+        entityUrlResolver.learn(EntityKind.TEAM, link.name(), page.url());
+        if (!NOT_FOUND.equals(team.getName()) && !team.getName().equalsIgnoreCase(link.name())) {
+            entityUrlResolver.learn(EntityKind.TEAM, team.getName(), page.url());
+        }
+        cachedScrapeService.storeTeam(link.name(), team);
+        log.info("Crawled team '{}' ({} players)", team.getName(), team.getSquad().size());
+    }
+
+    private List<TeamLink> discoverTeams(Page page) {
+        if (!readiness.await(WaitStep.TOURNAMENT_PAGE_READY, page)) {
+            throw new IllegalArgumentException("No team links found on " + page.url());
+        }
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> anchors = (List<Map<String, Object>>) page.evalOnSelectorAll(
+                WhoScoredSelectors.TEAM_LINKS,
+                "links => links.map(a => ({ name: a.textContent.trim(), href: a.href }))");
+
+        // The same team shows up in standings, form tables and fixtures; keep the first link per team id
+        Map<Long, TeamLink> byId = new LinkedHashMap<>();
+        for (Map<String, Object> anchor : anchors) {
+            String href = String.valueOf(anchor.get("href"));
+            String name = String.valueOf(anchor.get("name"));
+            Optional<Long> id = EntityUrlResolver.extractId(EntityKind.TEAM, href);
+            if (id.isPresent() && !name.isBlank() && !byId.containsKey(id.get())) {
+                byId.put(id.get(), new TeamLink(byId.size(), name, href));
+            }
+            if (byId.size() >= properties.getMaxTeams()) {
+                break;
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    private static void validate(String tournamentUrl) {
+        if (tournamentUrl == null || !tournamentUrl.matches("(?i)https://([a-z]{2,3}\\.)?whoscored\\.com/.*/Tournaments/\\d+.*")) {
+            throw new IllegalArgumentException("tournamentUrl must be a WhoScored tournament page, "
+                    + "e.g. https://es.whoscored.com/Regions/206/Tournaments/4/Espa%C3%B1a-LaLiga");
+        }
+    }
+
+    private record TeamLink(int index, String name, String url) {
+    }
+
+    // A worker's lease, tab and feed capture, opened with its first team
+    private final class CrawlTab {
+        private BrowserLease lease;
+        private Page page;
+        private StatsFeedCapture feedCapture;
+
+        Page open(String url) {
+            if (lease == null) {
+                lease = acquireBrowser();
+                feedCapture = StatsFeedCapture.attach(lease);
+            }
+            // Feeds of the previous team must not be read as this one's
+            feedCapture.clear();
+            if (page == null) {
+                page = createPage(lease, url);
+            } else {
+                navigate(lease, page, url);
+            }
+            return page;
+        }
+
+        void close() {
+            if (lease != null) {
+                lease.close();
+            }
+            lease = null;
+            page = null;
+            feedCapture = null;
+        }
+    }
+}
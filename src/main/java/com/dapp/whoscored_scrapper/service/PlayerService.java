@@ -2,14 +2,25 @@ package com.dapp.whoscored_scrapper.service;
 
 import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
 import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPoolExhaustedException;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitUntilState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,49 +28,114 @@ public class PlayerService extends AbstractWebService {
 
     private static final Logger log = LoggerFactory.getLogger(PlayerService.class);
 
+    // One row of the match statistics table; the opponent cell also contains the scoreline
+    static final ColumnMapping<PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder, PlayerMatchStatsDTO> MATCH_COLUMNS =
+            ColumnMapping.of(PlayerMatchStatsDTO::builder, PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::build)
+                    .columns(List.of("td:nth-child(1) a.player-match-link", "td:nth-child(1) a.player-match-link span.scoreline"),
+                            (match, cells) -> match
+                                    .opponent(cells.get(0).replace(cells.get(1), "").trim())
+                                    .score(cells.get(1)))
+                    .column("td:nth-child(3)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::date)
+                    .column("td:nth-child(4)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::position)
+                    .column("td:nth-child(5)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::minsPlayed)
+                    .column("td:nth-child(6)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::goals)
+                    .column("td:nth-child(7)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::assists)
+                    .column("td:nth-child(8)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::yellowCards)
+                    .column("td:nth-child(9)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::redCards)
+                    .column("td:nth-child(10)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::shots)
+                    .column("td:nth-child(11)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::passSuccess)
+                    .column("td:nth-child(12)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::aerialsWon)
+                    .column("td:nth-child(13)", PlayerMatchStatsDTO.PlayerMatchStatsDTOBuilder::rating);
+
+    private final EntityUrlResolver entityUrlResolver;
+    private final StatsFeedReader statsFeedReader;
+
+    public PlayerService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors,
+            EntityUrlResolver entityUrlResolver, StatsFeedReader statsFeedReader) {
+        super(browserPool, sessionStore, readiness, metrics, selectors);
+        this.entityUrlResolver = entityUrlResolver;
+        this.statsFeedReader = statsFeedReader;
+    }
+
     public PlayerDTO getPlayerInfoByName(String playerName) {
-        try (Playwright playwright = Playwright.create()) {
-            Page page = createPage(playwright);
-
-            // Search for the player
-            performSearch(page, playerName);
-
-            // Click on the first player result
-            Locator firstResult = page
-                    .locator("div.search-result:has(h2:text('Jugadores:')) >> tbody tr:nth-child(2) >> a")
-                    .first();
-            try {
-                firstResult.waitFor(new Locator.WaitForOptions().setTimeout(15000));
-            } catch (Exception e) {
-                log.error("Player '{}' not found in search results or timed out.", playerName);
-                throw new IllegalArgumentException("Player with name '" + playerName + "' not found.");
-            }
-            firstResult.click();
-            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+        return metrics.operation("player_lookup", () -> lookupPlayer(playerName));
+    }
+
+    private PlayerDTO lookupPlayer(String playerName) {
+        try (BrowserLease lease = acquireBrowser()) {
+            Page page = openPlayerPage(lease, playerName);
 
             // Scrape player data
-            PlayerDTO playerDTO = scrapePlayerData(page);
+            PlayerDTO playerDTO = metrics.phase("player_profile", () -> scrapePlayerData(page));
 
             // Navigate to Match Statistics and scrape data
-            page.getByText("Estadísticas del Partido").click();
-            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
-            playerDTO.setMatchStats(scrapePlayerMatchStats(page));
+            StatsFeedCapture feedCapture = StatsFeedCapture.attach(lease);
+            playerDTO.setMatchStats(metrics.phase("match_stats_extraction", () -> extractMatchStats(page, feedCapture)));
 
             return playerDTO;
         } catch (IllegalArgumentException e) {
             log.error("An error occurred during scraping for player: {}", playerName, e);
             throw new IllegalArgumentException("Player with name 'Unknown Player' not found.", e);
+        } catch (BrowserPoolExhaustedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("An unexpected error occurred during scraping for player: {}", playerName, e);
             throw new RuntimeException("An unexpected error occurred while fetching player data.", e);
         }
     }
 
+    private Page openPlayerPage(BrowserLease lease, String playerName) {
+        Optional<String> knownUrl = entityUrlResolver.resolve(EntityKind.PLAYER, playerName);
+        Page page;
+        if (knownUrl.isPresent()) {
+            page = createPage(lease, knownUrl.get());
+            if (isPlayerPage(page)) {
+                log.info("Player '{}' opened directly from {}", playerName, knownUrl.get());
+                return page;
+            }
+            log.warn("Known URL for player '{}' did not load a player page, falling back to search.", playerName);
+            metrics.selectorFallback("known_url");
+            entityUrlResolver.forget(EntityKind.PLAYER, playerName);
+            page.navigate(BASE_URL, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+        } else {
+            page = createPage(lease);
+        }
+
+        // Search for the player
+        performSearch(page, playerName);
+
+        // Click on the first player result
+        Locator firstResult = page
+                .locator("div.search-result:has(h2:text('Jugadores:')) >> tbody tr:nth-child(2) >> a")
+                .first();
+        try {
+            firstResult.waitFor(new Locator.WaitForOptions().setTimeout(15000));
+        } catch (Exception e) {
+            log.error("Player '{}' not found in search results or timed out.", playerName);
+            metrics.timeout("player_search_result");
+            throw new IllegalArgumentException("Player with name '" + playerName + "' not found.");
+        }
+        metrics.phase("result_click", () -> {
+            firstResult.click();
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+        });
+        // Only once the player page is up: right after the click page.url() can still be the search page
+        if (isPlayerPage(page)) {
+            entityUrlResolver.learn(EntityKind.PLAYER, playerName, page.url());
+        }
+        return page;
+    }
+
+    private boolean isPlayerPage(Page page) {
+        return readiness.await(WaitStep.PLAYER_PAGE_READY, page);
+    }
+
     public PlayerDTO scrapePlayerData(Page page) {
         PlayerDTO player = new PlayerDTO();
 
         // Get player info container
-        Locator playerInfoContainer = page.locator("div.col12-lg-10.col12-m-10.col12-s-9.col12-xs-8");
+        Locator playerInfoContainer = page.locator(WhoScoredSelectors.PLAYER_INFO);
         playerInfoContainer.waitFor(new Locator.WaitForOptions().setTimeout(10000));
 
         // Set player basic info
@@ -98,11 +174,27 @@ public class PlayerService extends AbstractWebService {
         }
     }
 
+    // With the feed enabled the rows come straight from the JSON, without waiting for the table to render
+    private List<PlayerMatchStatsDTO> extractMatchStats(Page page, StatsFeedCapture feedCapture) {
+        Runnable openTab = () -> page.getByText("Estadísticas del Partido").click();
+        if (statsFeedReader.isEnabled()) {
+            openTab.run();
+            Optional<List<PlayerMatchStatsDTO>> fromFeed = statsFeedReader.readMatchStats(page, feedCapture);
+            if (fromFeed.isPresent()) {
+                return fromFeed.get();
+            }
+            metrics.selectorFallback("match_stats_feed");
+        } else {
+            readiness.await(WaitStep.MATCH_STATS_READY, page, openTab);
+        }
+        return scrapePlayerMatchStats(page);
+    }
+
     List<PlayerMatchStatsDTO> scrapePlayerMatchStats(Page page) {
         List<PlayerMatchStatsDTO> matchStats = new ArrayList<>();
 
         // Get match statistics table body
-        Locator statsTableBody = page.locator("tbody#player-table-statistics-body");
+        Locator statsTableBody = page.locator(WhoScoredSelectors.STATS_TABLE_BODY);
         try {
             // Wait for the element to be attached to the DOM, not necessarily visible.
             statsTableBody.waitFor(new Locator.WaitForOptions().setTimeout(10000));
@@ -111,30 +203,7 @@ public class PlayerService extends AbstractWebService {
             return matchStats; // Return empty list if table body doesn't even exist.
         }
 
-        List<Locator> matchRows = statsTableBody.locator("tr").all();
-        for (Locator row : matchRows) {
-            Locator opponentLink = row.locator("td:nth-child(1) a.player-match-link");
-            String fullOpponentText = opponentLink.innerText();
-            String score = opponentLink.locator("span.scoreline").innerText();
-            String opponent = fullOpponentText.replace(score, "").trim();
-
-            PlayerMatchStatsDTO match = PlayerMatchStatsDTO.builder()
-                    .opponent(opponent)
-                    .score(score)
-                    .date(row.locator("td:nth-child(3)").innerText())
-                    .position(row.locator("td:nth-child(4)").innerText())
-                    .minsPlayed(row.locator("td:nth-child(5)").innerText())
-                    .goals(row.locator("td:nth-child(6)").innerText())
-                    .assists(row.locator("td:nth-child(7)").innerText())
-                    .yellowCards(row.locator("td:nth-child(8)").innerText())
-                    .redCards(row.locator("td:nth-child(9)").innerText())
-                    .shots(row.locator("td:nth-child(10)").innerText())
-                    .passSuccess(row.locator("td:nth-child(11)").innerText())
-                    .aerialsWon(row.locator("td:nth-child(12)").innerText())
-                    .rating(row.locator("td:nth-child(13)").innerText())
-                    .build();
-            matchStats.add(match);
-        }
+        matchStats.addAll(TableExtractor.extract(page, WhoScoredSelectors.STATS_TABLE_BODY + " tr", MATCH_COLUMNS));
         return matchStats;
     }
 
@@ -0,0 +1,18 @@
+package com.dapp.whoscored_scrapper.service;
+
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+
+// A player's profile (without match stats) and a source that hands its match rows over one at a time, newest first
+public record PlayerStream(PlayerDTO profile, MatchSource matches) {
+
+    @FunctionalInterface
+    public interface MatchSource {
+        void forEach(MatchSink sink) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface MatchSink {
+        void accept(PlayerMatchStatsDTO row) throws Exception;
+    }
+}
@@ -0,0 +1,64 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+
+// Remembers the StatisticsFeed responses a context receives, so the JSON can be read after the fact
+public class StatsFeedCapture {
+
+    static final String FEED_PATH = "/StatisticsFeed/";
+
+    private final List<Response> responses = new CopyOnWriteArrayList<>();
+
+    private StatsFeedCapture() {
+    }
+
+    // Attach before navigating: the feed fires while the page loads. The listener and its buffered responses
+    // are dropped when the lease is released
+    public static StatsFeedCapture attach(BrowserLease lease) {
+        StatsFeedCapture capture = new StatsFeedCapture();
+        BrowserContext context = lease.context();
+        Consumer<Response> listener = response -> {
+            if (response.url().contains(FEED_PATH)) {
+                capture.responses.add(response);
+            }
+        };
+        context.onResponse(listener);
+        lease.onRelease(() -> {
+            context.offResponse(listener);
+            capture.responses.clear();
+        });
+        return capture;
+    }
+
+    // Forget feeds from pages we are leaving (home page widgets, previous tab...)
+    public void clear() {
+        responses.clear();
+    }
+
+    public Optional<Response> await(Page page, Predicate<String> urlFilter, Duration timeout) {
+        for (Response response : responses) {
+            if (urlFilter.test(response.url())) {
+                return Optional.of(response);
+            }
+        }
+        try {
+            return Optional.of(page.waitForResponse(
+                    response -> response.url().contains(FEED_PATH) && urlFilter.test(response.url()),
+                    new Page.WaitForResponseOptions().setTimeout(timeout.toMillis()),
+                    () -> { }));
+        } catch (TimeoutError e) {
+            return Optional.empty();
+        }
+    }
+}
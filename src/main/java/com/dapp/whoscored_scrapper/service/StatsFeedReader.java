@@ -0,0 +1,219 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.dapp.whoscored_scrapper.config.ExtractionProperties;
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.RequestOptions;
+
+// Reads the StatisticsFeed JSON behind the squad and match tables, including the pages the DOM never shows
+@Component
+public class StatsFeedReader {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsFeedReader.class);
+    private static final String[] ROW_ARRAYS = {"playerTableStats", "matches", "items"};
+
+    private final ExtractionProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public StatsFeedReader(ExtractionProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isEnabled() {
+        return properties.getMode() == ExtractionProperties.Mode.FEED;
+    }
+
+    public Optional<List<TeamPlayerDTO>> readSquad(Page page, StatsFeedCapture capture) {
+        return read(page, capture, properties.getSquadFeedPath(), "teamIds", StatsFeedReader::toTeamPlayer);
+    }
+
+    public Optional<List<PlayerMatchStatsDTO>> readMatchStats(Page page, StatsFeedCapture capture) {
+        return read(page, capture, properties.getMatchFeedPath(), "playerId", StatsFeedReader::toMatchStats);
+    }
+
+    // Empty means "no usable feed": the caller falls back to the DOM table
+    private <T> Optional<List<T>> read(Page page, StatsFeedCapture capture, String feedPath, String requiredParam,
+            Function<JsonNode, T> mapper) {
+        Optional<Response> first = capture.await(page,
+                url -> url.contains(feedPath) && hasValue(url, requiredParam), properties.getFeedTimeout());
+        if (first.isEmpty()) {
+            log.info("No {} feed seen within {}, using the DOM table", feedPath, properties.getFeedTimeout());
+            return Optional.empty();
+        }
+
+        try {
+            String feedUrl = first.get().url();
+            JsonNode firstPage = objectMapper.readTree(first.get().body());
+            List<T> rows = new ArrayList<>(mapRows(firstPage, mapper));
+
+            int totalPages = pageCount(firstPage);
+            int currentPage = firstPage.path("paging").path("currentPage").asInt(1);
+            for (int pageNumber = 1; pageNumber <= totalPages; pageNumber++) {
+                if (pageNumber != currentPage) {
+                    rows.addAll(mapRows(fetchPage(page, feedUrl, pageNumber), mapper));
+                }
+            }
+
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            log.info("Read {} rows from {} ({} feed pages)", rows.size(), feedPath, totalPages);
+            return Optional.of(rows);
+        } catch (Exception e) {
+            log.warn("Could not parse {} feed, using the DOM table: {}", feedPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Squad rows of a feed page fetched outside the browser
+    public List<TeamPlayerDTO> squadRows(JsonNode feed) {
+        return mapRows(feed, StatsFeedReader::toTeamPlayer);
+    }
+
+    // Pages the feed reports, up to scraper.extraction.max-feed-pages
+    public int pageCount(JsonNode feed) {
+        return Math.min(feed.path("paging").path("totalPages").asInt(1), properties.getMaxFeedPages());
+    }
+
+    // Same request the page's own pager sends, through the context so cookies and clearance apply
+    private JsonNode fetchPage(Page page, String feedUrl, int pageNumber) throws Exception {
+        String url = UriComponentsBuilder.fromUriString(feedUrl)
+                .replaceQueryParam("page", pageNumber)
+                .build()
+                .toUriString();
+        APIResponse response = page.request().get(url, RequestOptions.create()
+                .setHeader("X-Requested-With", "XMLHttpRequest")
+                .setHeader("Referer", page.url()));
+        try {
+            if (!response.ok()) {
+                throw new IllegalStateException("feed page " + pageNumber + " returned HTTP " + response.status());
+            }
+            return objectMapper.readTree(response.body());
+        } finally {
+            response.dispose();
+        }
+    }
+
+    static <T> List<T> mapRows(JsonNode feed, Function<JsonNode, T> mapper) {
+        List<T> rows = new ArrayList<>();
+        for (String arrayName : ROW_ARRAYS) {
+            JsonNode array = feed.path(arrayName);
+            if (array.isArray()) {
+                array.forEach(row -> rows.add(mapper.apply(row)));
+                break;
+            }
+        }
+        return rows;
+    }
+
+    static TeamPlayerDTO toTeamPlayer(JsonNode row) {
+        int subOn = row.path("subOn").asInt(0);
+        return TeamPlayerDTO.builder()
+                .name(value(row, "name"))
+                .age(value(row, "age"))
+                .position(value(row, "playedPositionsShort", "positionText"))
+                .height(value(row, "height"))
+                .weight(value(row, "weight"))
+                .apps(row.path("apps").asInt(0) + (subOn > 0 ? "(" + subOn + ")" : ""))
+                .minsPlayed(stat(row, 0, "minsPlayed"))
+                .goals(stat(row, 0, "goal"))
+                .assists(stat(row, 0, "assistTotal"))
+                .yellowCards(stat(row, 0, "yellowCard"))
+                .redCards(stat(row, 0, "redCard"))
+                .shotsPerGame(stat(row, 1, "shotsPerGame"))
+                .passSuccess(stat(row, 1, "passSuccess"))
+                .aerialsWonPerGame(stat(row, 1, "aerialWonPerGame"))
+                .manOfTheMatch(stat(row, 0, "manOfTheMatch"))
+                .rating(stat(row, 2, "rating"))
+                .build();
+    }
+
+    static PlayerMatchStatsDTO toMatchStats(JsonNode row) {
+        String score = value(row, "score");
+        if (AbstractWebService.NOT_FOUND.equals(score) && row.has("homeScore") && row.has("awayScore")) {
+            score = row.path("homeScore").asInt() + " : " + row.path("awayScore").asInt();
+        }
+        return PlayerMatchStatsDTO.builder()
+                .opponent(value(row, "oppositionTeamName", "opponentTeamName"))
+                .score(score)
+                .date(date(value(row, "startTime", "matchStartTime", "date")))
+                .position(value(row, "playedPositionShort", "position", "positionText"))
+                .minsPlayed(stat(row, 0, "minsPlayed"))
+                .goals(stat(row, 0, "goal"))
+                .assists(stat(row, 0, "assistTotal"))
+                .yellowCards(stat(row, 0, "yellowCard"))
+                .redCards(stat(row, 0, "redCard"))
+                .shots(stat(row, 0, "shotsTotal"))
+                .passSuccess(stat(row, 1, "passSuccess"))
+                .aerialsWon(stat(row, 0, "aerialWon"))
+                .rating(stat(row, 2, "rating"))
+                .build();
+    }
+
+    private static String value(JsonNode row, String... fields) {
+        for (String field : fields) {
+            JsonNode node = row.get(field);
+            if (node != null && !node.isNull() && !node.asText().isBlank()) {
+                return node.asText();
+            }
+        }
+        return AbstractWebService.NOT_FOUND;
+    }
+
+    // Formats like the rendered table: zero shows as "-", ratios with fixed decimals
+    private static String stat(JsonNode row, int decimals, String field) {
+        JsonNode node = row.get(field);
+        if (node == null || node.isNull()) {
+            return "-";
+        }
+        double number = node.asDouble();
+        if (number == 0) {
+            return "-";
+        }
+        return decimals == 0 ? String.valueOf(Math.round(number)) : String.format(Locale.ROOT, "%." + decimals + "f", number);
+    }
+
+    // 2025-09-21T16:15:00 -> 21-09-2025, the format of the match statistics table
+    private static String date(String isoDateTime) {
+        if (isoDateTime.length() < 10 || isoDateTime.charAt(4) != '-') {
+            return isoDateTime;
+        }
+        return isoDateTime.substring(8, 10) + "-" + isoDateTime.substring(5, 7) + "-" + isoDateTime.substring(0, 4);
+    }
+
+    private static boolean hasValue(String url, String param) {
+        String query;
+        try {
+            query = URI.create(url).getRawQuery();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (query == null) {
+            return false;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(param + "=") && pair.length() > param.length() + 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
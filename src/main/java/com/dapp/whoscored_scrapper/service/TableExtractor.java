@@ -0,0 +1,48 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.nodes.Element;
+
+import com.microsoft.playwright.Page;
+
+// Reads a whole table in a single evaluate call instead of one innerText round trip per cell
+public final class TableExtractor {
+
+    private static final String EXTRACT_ROWS_SCRIPT = """
+            (rows, selectors) => rows.map(row => selectors.map(selector => {
+                const cell = row.querySelector(selector);
+                return cell ? cell.innerText : null;
+            }))
+            """;
+
+    private TableExtractor() {
+    }
+
+    public static <B, T> List<T> extract(Page page, String rowSelector, ColumnMapping<B, T> mapping) {
+        Object raw = page.evalOnSelectorAll(rowSelector, EXTRACT_ROWS_SCRIPT, mapping.selectors());
+        List<T> result = new ArrayList<>();
+        if (!(raw instanceof List<?> rows)) {
+            return result;
+        }
+        for (Object row : rows) {
+            List<String> cells = new ArrayList<>();
+            for (Object cell : (List<?>) row) {
+                cells.add(cell == null ? AbstractWebService.NOT_FOUND : cell.toString());
+            }
+            result.add(mapping.map(cells));
+        }
+        return result;
+    }
+
+    // Same mapping over a row parsed outside the browser (the plain HTTP tier)
+    public static <B, T> T mapRow(Element row, ColumnMapping<B, T> mapping) {
+        List<String> cells = new ArrayList<>();
+        for (String selector : mapping.selectors()) {
+            Element cell = row.selectFirst(selector);
+            cells.add(cell == null ? AbstractWebService.NOT_FOUND : cell.text());
+        }
+        return mapping.map(cells);
+    }
+}
@@ -2,56 +2,97 @@ package com.dapp.whoscored_scrapper.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitUntilState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
 import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.dapp.whoscored_scrapper.model.entity.EntityKind;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPoolExhaustedException;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+import com.dapp.whoscored_scrapper.service.readiness.WaitStep;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
 
 @Service
 public class TeamService extends AbstractWebService {
 
     private static final Logger log = LoggerFactory.getLogger(TeamService.class);
 
+    // One row of the squad statistics table
+    static final ColumnMapping<TeamPlayerDTO.TeamPlayerDTOBuilder, TeamPlayerDTO> SQUAD_COLUMNS =
+            ColumnMapping.of(TeamPlayerDTO::builder, TeamPlayerDTO.TeamPlayerDTOBuilder::build)
+                    .column("td:nth-child(1) a.player-link span.iconize-icon-left", TeamPlayerDTO.TeamPlayerDTOBuilder::name)
+                    .column("td:nth-child(1) span.player-meta-data:nth-of-type(1)", TeamPlayerDTO.TeamPlayerDTOBuilder::age)
+                    .column("td:nth-child(1) span.player-meta-data:nth-of-type(2)",
+                            (player, position) -> player.position(position.replace(",", "").trim()))
+                    .column("td:nth-child(3)", TeamPlayerDTO.TeamPlayerDTOBuilder::height)
+                    .column("td:nth-child(4)", TeamPlayerDTO.TeamPlayerDTOBuilder::weight)
+                    .column("td:nth-child(5)", TeamPlayerDTO.TeamPlayerDTOBuilder::apps)
+                    .column("td:nth-child(6)", TeamPlayerDTO.TeamPlayerDTOBuilder::minsPlayed)
+                    .column("td:nth-child(7)", TeamPlayerDTO.TeamPlayerDTOBuilder::goals)
+                    .column("td:nth-child(8)", TeamPlayerDTO.TeamPlayerDTOBuilder::assists)
+                    .column("td:nth-child(9)", TeamPlayerDTO.TeamPlayerDTOBuilder::yellowCards)
+                    .column("td:nth-child(10)", TeamPlayerDTO.TeamPlayerDTOBuilder::redCards)
+                    .column("td:nth-child(11)", TeamPlayerDTO.TeamPlayerDTOBuilder::shotsPerGame)
+                    .column("td:nth-child(12)", TeamPlayerDTO.TeamPlayerDTOBuilder::passSuccess)
+                    .column("td:nth-child(13)", TeamPlayerDTO.TeamPlayerDTOBuilder::aerialsWonPerGame)
+                    .column("td:nth-child(14)", TeamPlayerDTO.TeamPlayerDTOBuilder::manOfTheMatch)
+                    .column("td:nth-child(15)", TeamPlayerDTO.TeamPlayerDTOBuilder::rating);
+
+    private final EntityUrlResolver entityUrlResolver;
+    private final StatsFeedReader statsFeedReader;
+    private final HttpTeamFetcher httpTeamFetcher;
+
+    public TeamService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors,
+            EntityUrlResolver entityUrlResolver, StatsFeedReader statsFeedReader, HttpTeamFetcher httpTeamFetcher) {
+        super(browserPool, sessionStore, readiness, metrics, selectors);
+        this.entityUrlResolver = entityUrlResolver;
+        this.statsFeedReader = statsFeedReader;
+        this.httpTeamFetcher = httpTeamFetcher;
+    }
+
     public TeamDTO getTeamInfoByName(String teamName) {
-        try (Playwright playwright = Playwright.create()) { // Bean of Spring
-            Page page = createPage(playwright); // Injected into Service
-            // Search for the team
-            performSearch(page, teamName);
-
-            // Click the first team result
-            Locator firstResult = page
-                    .locator("div.search-result:has(h2:text('Equipos:')) >> tbody tr:nth-child(2) >> a")
-                    .first();
-            try {
-                firstResult.waitFor(new Locator.WaitForOptions().setTimeout(15000)); // Esperar hasta 15 segundos
-            } catch (Exception e) {
-                log.warn("Team '{}' not found in the second result block, trying the first one.", teamName);
-                firstResult = page
-                        .locator("div.search-result:has(h2:text('Equipos:')) >> tbody tr:nth-child(1) >> a")
-                        .first();
-                // If it also fails here, it means the team was not found.
-                firstResult.waitFor(new Locator.WaitForOptions().setTimeout(5000)); 
-            }
+        return metrics.operation("team_lookup", () -> lookupTeam(teamName));
+    }
 
-            firstResult.click();
-            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+    // Plain HTTP first; Chromium only when that tier meets a challenge or a feed without the squad
+    private TeamDTO lookupTeam(String teamName) {
+        Optional<TeamDTO> fromHttp = httpTeamFetcher.fetch(teamName);
+        if (fromHttp.isPresent()) {
+            return fromHttp.get();
+        }
+        return metrics.tier("browser", () -> lookupTeamInBrowser(teamName));
+    }
+
+    private TeamDTO lookupTeamInBrowser(String teamName) {
+        try (BrowserLease lease = acquireBrowser()) {
+            StatsFeedCapture feedCapture = StatsFeedCapture.attach(lease);
+            Page page = openTeamPage(lease, teamName, feedCapture);
 
             // Extract team and squad data
             TeamDTO teamDTO = new TeamDTO();
             teamDTO.setName(extractText(page, "h1.team-header"));
-            teamDTO.setSquad(scrapeSquadData(page));
+            teamDTO.setSquad(metrics.phase("squad_extraction", () -> extractSquad(page, feedCapture)));
 
             return teamDTO;
         } catch (com.microsoft.playwright.TimeoutError e) {
             log.error("Team '{}' not found in search results or timed out.", teamName, e);
+            metrics.timeout("team_search_result");
             throw new IllegalArgumentException("Team with name '" + teamName + "' not found.");
+        } catch (BrowserPoolExhaustedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("An error occurred during scraping for team: {}", teamName, e);
             // For other unexpected errors, throw a generic RuntimeException.
@@ -59,11 +100,83 @@ public class TeamService extends AbstractWebService {
         }
     }
 
+    // For callers that do not read the squad feed (fixtures)
+    Page openTeamPage(BrowserLease lease, String teamName) {
+        return openTeamPage(lease, teamName, null);
+    }
+
+    Page openTeamPage(BrowserLease lease, String teamName, StatsFeedCapture feedCapture) {
+        Optional<String> knownUrl = entityUrlResolver.resolve(EntityKind.TEAM, teamName);
+        Page page;
+        if (knownUrl.isPresent()) {
+            page = createPage(lease, knownUrl.get());
+            if (isTeamPage(page)) {
+                log.info("Team '{}' opened directly from {}", teamName, knownUrl.get());
+                return page;
+            }
+            log.warn("Known URL for team '{}' did not load a team page, falling back to search.", teamName);
+            metrics.selectorFallback("known_url");
+            entityUrlResolver.forget(EntityKind.TEAM, teamName);
+            page.navigate(BASE_URL, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+        } else {
+            page = createPage(lease);
+        }
+
+        // Search for the team
+        performSearch(page, teamName);
+
+        // Click the first team result
+        Locator firstResult = page
+                .locator("div.search-result:has(h2:text('Equipos:')) >> tbody tr:nth-child(2) >> a")
+                .first();
+        try {
+            firstResult.waitFor(new Locator.WaitForOptions().setTimeout(15000)); // Esperar hasta 15 segundos
+        } catch (Exception e) {
+            log.warn("Team '{}' not found in the second result block, trying the first one.", teamName);
+            metrics.selectorFallback("team_search_result_row");
+            firstResult = page
+                    .locator("div.search-result:has(h2:text('Equipos:')) >> tbody tr:nth-child(1) >> a")
+                    .first();
+            // If it also fails here, it means the team was not found.
+            firstResult.waitFor(new Locator.WaitForOptions().setTimeout(5000)); 
+        }
+
+        if (feedCapture != null) {
+            feedCapture.clear();
+        }
+        Locator result = firstResult;
+        metrics.phase("result_click", () -> {
+            result.click();
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+        });
+        // Only once the team page is up: right after the click page.url() can still be the search page
+        if (isTeamPage(page)) {
+            entityUrlResolver.learn(EntityKind.TEAM, teamName, page.url());
+        }
+        return page;
+    }
+
+    private boolean isTeamPage(Page page) {
+        return readiness.await(WaitStep.TEAM_PAGE_READY, page);
+    }
+
+    // Prefers the StatisticsFeed JSON (every page of it) and falls back to the rendered table
+    List<TeamPlayerDTO> extractSquad(Page page, StatsFeedCapture feedCapture) {
+        if (statsFeedReader.isEnabled()) {
+            Optional<List<TeamPlayerDTO>> fromFeed = statsFeedReader.readSquad(page, feedCapture);
+            if (fromFeed.isPresent()) {
+                return fromFeed.get();
+            }
+            metrics.selectorFallback("squad_feed");
+        }
+        return scrapeSquadData(page);
+    }
+
     List<TeamPlayerDTO> scrapeSquadData(Page page) {
         List<TeamPlayerDTO> squad = new ArrayList<>();
 
         // Get squad statistics table body
-        Locator squadTableBody = page.locator("tbody#player-table-statistics-body");
+        Locator squadTableBody = page.locator(WhoScoredSelectors.STATS_TABLE_BODY);
         try {
             // Wait for the element to be attached to the DOM, not necessarily visible.
             squadTableBody.waitFor(new Locator.WaitForOptions().setTimeout(10000));
@@ -72,30 +185,7 @@ public class TeamService extends AbstractWebService {
             return squad; // Return empty list if table body doesn't exist or is empty.
         }
 
-        List<Locator> playerRows = squadTableBody.locator("tr").all();
-        for (Locator row : playerRows) {
-            String name = row.locator("td:nth-child(1) a.player-link span.iconize-icon-left").innerText();
-            String age = row.locator("td:nth-child(1) span.player-meta-data:nth-of-type(1)").innerText();
-            String position = row.locator("td:nth-child(1) span.player-meta-data:nth-of-type(2)").innerText();
-
-            TeamPlayerDTO player = TeamPlayerDTO.builder()
-                    .name(name).age(age).position(position.replace(",", "").trim())
-                    .height(row.locator("td:nth-child(3)").innerText())
-                    .weight(row.locator("td:nth-child(4)").innerText())
-                    .apps(row.locator("td:nth-child(5)").innerText())
-                    .minsPlayed(row.locator("td:nth-child(6)").innerText())
-                    .goals(row.locator("td:nth-child(7)").innerText())
-                    .assists(row.locator("td:nth-child(8)").innerText())
-                    .yellowCards(row.locator("td:nth-child(9)").innerText())
-                    .redCards(row.locator("td:nth-child(10)").innerText())
-                    .shotsPerGame(row.locator("td:nth-child(11)").innerText())
-                    .passSuccess(row.locator("td:nth-child(12)").innerText())
-                    .aerialsWonPerGame(row.locator("td:nth-child(13)").innerText())
-                    .manOfTheMatch(row.locator("td:nth-child(14)").innerText())
-                    .rating(row.locator("td:nth-child(15)").innerText())
-                    .build();
-            squad.add(player);
-        }
+        squad.addAll(TableExtractor.extract(page, WhoScoredSelectors.STATS_TABLE_BODY + " tr", SQUAD_COLUMNS));
         return squad;
     }
 }
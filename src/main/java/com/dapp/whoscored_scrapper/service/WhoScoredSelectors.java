@@ -0,0 +1,72 @@
+package com.dapp.whoscored_scrapper.service;
+
+import java.util.List;
+
+// Candidate selectors for the parts of WhoScored whose markup changes between deployments and A/B tests
+public final class WhoScoredSelectors {
+
+    // MÁS selectores para cookies - WhoScored podría usar diferentes sistemas
+    public static final List<String> COOKIE_BUTTONS = List.of(
+            "button:has-text('Aceptar todo')",
+            "button:has-text('Accept All')",
+            "button:has-text('Aceptar')",
+            "button:has-text('Accept')",
+            "button[aria-label*='cookie']",
+            "button[class*='cookie']",
+            ".cookie-banner button",
+            "#cookie-banner button",
+            "[data-testid*='cookie'] button",
+            ".qc-cmp2-summary-buttons button[mode='primary']",
+            "#onetrust-accept-btn-handler",
+            ".ot-sdk-row button:has-text('Aceptar')",
+            "button.js-cookie-notice-accept",  // Selector común
+            "a.cookie-accept",  // A veces es un link
+            "div.cookie button" // Selector genérico
+    );
+
+    // MÁS selectores para el campo de búsqueda
+    public static final List<String> SEARCH_INPUTS = List.of(
+            "input[placeholder*='Buscar campeonatos']",
+            "input[placeholder*='Search']",
+            "input[name*='search']",
+            "input[type='search']",
+            "input[class*='search']",
+            ".search-input",
+            "#search-input",
+            "input#search",
+            "[data-testid*='search']",
+            "form[role='search'] input",
+            "input[aria-label*='search']",
+            "header input[type='text']",  // Buscar en el header
+            "nav input",  // Buscar en la navegación
+            ".header-search input",
+            "#header-search input"
+    );
+
+    // Buscar y hacer click en el botón de verificación de Cloudflare
+    public static final List<String> CLOUDFLARE_BUTTONS = List.of(
+            "input[type='submit'][value*='Verify']",
+            "button[type*='submit']",
+            ".btn-primary",
+            "#challenge-form input[type='submit']",
+            "a[role='button']",
+            "[data-ray*='submit']"
+    );
+
+    public static final String SEARCH_RESULTS = "div.search-result";
+    public static final String TEAM_HEADER = "h1.team-header";
+    public static final String PLAYER_INFO = "div.col12-lg-10.col12-m-10.col12-s-9.col12-xs-8";
+    public static final String STATS_TABLE_BODY = "tbody#player-table-statistics-body";
+    // Rows of a team's fixtures page, past results and upcoming matches alike
+    public static final String FIXTURE_ROWS = "#team-fixtures div.divtable-row";
+    // Team links of a tournament page (standings table)
+    public static final String TEAM_LINKS = "a.team-link[href*='/Teams/']";
+
+    private WhoScoredSelectors() {
+    }
+
+    // Playwright accepts selector lists, so one wait can cover every candidate at once
+    public static String anyOf(List<String> selectors) {
+        return String.join(", ", selectors);
+    }
+}
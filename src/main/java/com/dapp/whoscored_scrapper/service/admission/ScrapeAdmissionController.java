@@ -0,0 +1,149 @@
+package com.dapp.whoscored_scrapper.service.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.AdmissionProperties;
+import com.dapp.whoscored_scrapper.config.BrowserPoolProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Caps how many scrapes run at once and how many may wait, so bursts are rejected fast instead of piling
+// up Chromium processes (and heap) until the container is OOM-killed
+@Component
+public class ScrapeAdmissionController {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeAdmissionController.class);
+
+    private static final ThreadLocal<Boolean> BACKGROUND = ThreadLocal.withInitial(() -> false);
+
+    private final AdmissionProperties properties;
+    private final int maxConcurrent;
+    private final Semaphore slots;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public ScrapeAdmissionController(AdmissionProperties properties, BrowserPoolProperties browserPoolProperties,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.maxConcurrent = properties.getMaxConcurrent() > 0
+                ? properties.getMaxConcurrent()
+                : Math.max(1, browserPoolProperties.getSize());
+        this.slots = new Semaphore(maxConcurrent, true);
+
+        Gauge.builder("whoscored.admission.queue", waiting, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("whoscored.admission.active", this, ScrapeAdmissionController::activeScrapes).register(meterRegistry);
+        this.waitTimer = Timer.builder("whoscored.admission.wait").register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("whoscored.admission.rejected").tag("reason", "queue_full").register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("whoscored.admission.rejected").tag("reason", "timeout").register(meterRegistry);
+        log.info("Scrape admission: {} concurrent, {} queued, max wait {}",
+                maxConcurrent, properties.getMaxQueued(), properties.getMaxWait());
+    }
+
+    public <T> T admit(Supplier<T> scrape) {
+        if (BACKGROUND.get()) {
+            return admitBlocking(scrape);
+        }
+        acquire();
+        try {
+            return scrape.get();
+        } finally {
+            slots.release();
+        }
+    }
+
+    // For work that was already accepted or runs in the background (warm-ups, queued jobs): waits for a slot
+    // as long as it takes instead of being rejected, and does not count against the synchronous queue limit
+    public <T> T admitBlocking(Supplier<T> scrape) {
+        long start = System.nanoTime();
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a scrape slot", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        try {
+            return scrape.get();
+        } finally {
+            slots.release();
+        }
+    }
+
+    // Runs the scrape only if a slot is free right now, for callers that must let go of a browser before waiting
+    public boolean tryAdmit(Runnable scrape) {
+        if (!slots.tryAcquire()) {
+            return false;
+        }
+        try {
+            scrape.run();
+            return true;
+        } finally {
+            slots.release();
+        }
+    }
+
+    // Runs work that was already accepted (a queued job): every admit() inside it waits for a slot instead of
+    // failing with the 429/503 meant for synchronous callers
+    public <T> T background(Supplier<T> work) {
+        if (BACKGROUND.get()) {
+            return work.get();
+        }
+        BACKGROUND.set(true);
+        try {
+            return work.get();
+        } finally {
+            BACKGROUND.remove();
+        }
+    }
+
+    public int activeScrapes() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    public int queuedScrapes() {
+        return waiting.get();
+    }
+
+    private void acquire() {
+        long start = System.nanoTime();
+        if (slots.tryAcquire()) {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        if (waiting.incrementAndGet() > properties.getMaxQueued()) {
+            waiting.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new ScrapeCapacityExceededException(
+                    "Too many scrapes waiting (" + properties.getMaxQueued() + "), try again later",
+                    true, properties.getRetryAfter());
+        }
+        try {
+            if (!slots.tryAcquire(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedTimeout.increment();
+                throw new ScrapeCapacityExceededException(
+                        "No scrape slot free after " + properties.getMaxWait().toSeconds() + "s, try again later",
+                        false, properties.getRetryAfter());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a scrape slot", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dapp.whoscored_scrapper.service.admission;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+@Getter
+public class ScrapeCapacityExceededException extends RuntimeException {
+
+    // true: the wait queue was full (429); false: waited maxWait without getting a slot (503)
+    private final boolean queueFull;
+    private final Duration retryAfter;
+
+    public ScrapeCapacityExceededException(String message, boolean queueFull, Duration retryAfter) {
+        super(message);
+        this.queueFull = queueFull;
+        this.retryAfter = retryAfter;
+    }
+}
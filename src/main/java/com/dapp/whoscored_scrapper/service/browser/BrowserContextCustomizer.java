@@ -0,0 +1,7 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+// Hook applied to every context the pool hands out (request routing, recording, listeners...)
+public interface BrowserContextCustomizer {
+
+    void customize(BrowserLease lease);
+}
@@ -0,0 +1,71 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+// Exclusive checkout of a pooled browser with its own isolated BrowserContext.
+// Closing the lease closes the context and hands the browser back to the pool.
+public class BrowserLease implements AutoCloseable {
+
+    private final BrowserPool pool;
+    private final PooledBrowser slot;
+    private final BrowserContext context;
+    private final boolean sessionRestored;
+    private final List<Runnable> releaseCallbacks = new ArrayList<>();
+    private boolean broken;
+    private boolean released;
+
+    BrowserLease(BrowserPool pool, PooledBrowser slot, BrowserContext context, boolean sessionRestored) {
+        this.pool = pool;
+        this.slot = slot;
+        this.context = context;
+        this.sessionRestored = sessionRestored;
+    }
+
+    public BrowserContext context() {
+        return context;
+    }
+
+    // True when the context was created from a saved WhoScored session
+    public boolean isSessionRestored() {
+        return sessionRestored;
+    }
+
+    public Page newPage() {
+        return context.newPage();
+    }
+
+    // Runs just before the context is closed, e.g. to report what happened during the scrape
+    public void onRelease(Runnable callback) {
+        releaseCallbacks.add(callback);
+    }
+
+    // Forces the browser to be recycled instead of returned to the pool (crash, hang, blocked IP...)
+    public void markBroken() {
+        this.broken = true;
+    }
+
+    PooledBrowser slot() {
+        return slot;
+    }
+
+    List<Runnable> releaseCallbacks() {
+        return releaseCallbacks;
+    }
+
+    boolean isBroken() {
+        return broken;
+    }
+
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        pool.release(this);
+    }
+}
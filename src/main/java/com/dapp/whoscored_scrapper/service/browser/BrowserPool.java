@@ -0,0 +1,328 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.BrowserPoolProperties;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class BrowserPool implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserPool.class);
+    // Shared with the plain HTTP tier: cf_clearance is only honoured for the user agent that earned it
+    public static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final BrowserPoolProperties properties;
+    private final List<BrowserContextCustomizer> customizers;
+    // Most recently used browsers are handed out first so the ones at the tail can age out
+    private final BlockingDeque<PooledBrowser> idle = new LinkedBlockingDeque<>();
+    // One permit per concurrent lease, so at most 'size' browsers are ever checked out
+    private final Semaphore permits;
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicInteger nextId = new AtomicInteger();
+    // A lock rather than synchronized: launches run on virtual threads and Playwright.create blocks
+    private final ReentrantLock driverLock = new ReentrantLock();
+    private volatile boolean shutdown;
+
+    public BrowserPool(BrowserPoolProperties properties, ObjectProvider<BrowserContextCustomizer> customizers,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.customizers = customizers.orderedStream().toList();
+        this.permits = new Semaphore(Math.max(1, properties.getSize()), true);
+
+        Gauge.builder("whoscored.browser.pool", this, BrowserPool::liveBrowsers).tag("state", "live").register(meterRegistry);
+        Gauge.builder("whoscored.browser.pool", this, BrowserPool::idleBrowsers).tag("state", "idle").register(meterRegistry);
+        Gauge.builder("whoscored.browser.pool", this, BrowserPool::leasedBrowsers).tag("state", "leased").register(meterRegistry);
+    }
+
+    public BrowserLease acquire() {
+        return acquire(null);
+    }
+
+    // Starts the context from a saved storageState JSON (cookies + localStorage) when one is given
+    public BrowserLease acquire(String storageState) {
+        if (shutdown) {
+            throw new IllegalStateException("Browser pool is shut down");
+        }
+        Duration timeout = properties.getCheckoutTimeout();
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new BrowserPoolExhaustedException(
+                        "No browser available after " + timeout.toSeconds() + "s (pool size " + properties.getSize() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BrowserPoolExhaustedException("Interrupted while waiting for a browser");
+        }
+
+        try {
+            PooledBrowser slot = checkoutHealthySlot();
+            BrowserContext context;
+            try {
+                context = slot.browser().newContext(contextOptions(storageState));
+            } catch (RuntimeException e) {
+                // The process may have died between the health check and the context creation
+                log.warn("Browser #{} failed to create a context, relaunching: {}", slot.id(), e.getMessage());
+                destroy(slot);
+                slot = checkoutHealthySlot();
+                try {
+                    context = slot.browser().newContext(contextOptions(storageState));
+                } catch (RuntimeException retryFailure) {
+                    destroy(slot);
+                    throw retryFailure;
+                }
+            }
+
+            BrowserLease lease = new BrowserLease(this, slot, context, storageState != null);
+            try {
+                customizers.forEach(customizer -> customizer.customize(lease));
+            } catch (RuntimeException e) {
+                context.close();
+                idle.offerFirst(slot);
+                throw e;
+            }
+            return lease;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    void release(BrowserLease lease) {
+        PooledBrowser slot = lease.slot();
+        for (Runnable callback : lease.releaseCallbacks()) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.debug("Release callback failed for browser #{}: {}", slot.id(), e.getMessage());
+            }
+        }
+        try {
+            lease.context().close();
+        } catch (Exception e) {
+            log.debug("Context of browser #{} did not close cleanly: {}", slot.id(), e.getMessage());
+            lease.markBroken();
+        }
+        slot.markReleased();
+
+        if (shutdown || lease.isBroken() || !slot.isHealthy() || isWornOut(slot)) {
+            log.info("Recycling browser #{} after {} contexts (broken={})",
+                    slot.id(), slot.contextsServed(), lease.isBroken());
+            destroy(slot);
+        } else {
+            idle.offerFirst(slot);
+        }
+        permits.release();
+    }
+
+    // Closes browsers idle for too long and keeps the configured number of warm instances
+    @Scheduled(fixedDelayString = "${scraper.browser-pool.eviction-interval:PT1M}")
+    public void evictAndWarm() {
+        if (shutdown) {
+            return;
+        }
+        Instant idleLimit = Instant.now().minus(properties.getIdleTimeout());
+        for (PooledBrowser slot : new ArrayList<>(idle)) {
+            boolean unhealthy = !slot.isHealthy();
+            boolean expired = slot.lastReleasedAt().isBefore(idleLimit) && idle.size() > properties.getMinIdle();
+            if ((unhealthy || expired) && idle.remove(slot)) {
+                log.info("Evicting {} browser #{}", unhealthy ? "crashed" : "idle", slot.id());
+                destroy(slot);
+            }
+        }
+
+        while (!shutdown && idle.size() < properties.getMinIdle() && reserveSlot()) {
+            try {
+                idle.offerLast(launch());
+            } catch (RuntimeException e) {
+                log.warn("Could not warm up a browser: {}", e.getMessage());
+                break;
+            }
+        }
+    }
+
+    // Someone is waiting for a lease: holders that keep a browser between units of work should give it back
+    public boolean hasWaiters() {
+        return permits.hasQueuedThreads();
+    }
+
+    public int liveBrowsers() {
+        return live.get();
+    }
+
+    public int idleBrowsers() {
+        return idle.size();
+    }
+
+    public int leasedBrowsers() {
+        return Math.max(1, properties.getSize()) - permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() {
+        shutdown = true;
+        List<PooledBrowser> remaining = new ArrayList<>();
+        idle.drainTo(remaining);
+        remaining.forEach(this::destroy);
+    }
+
+    private PooledBrowser checkoutHealthySlot() {
+        while (true) {
+            PooledBrowser slot;
+            while ((slot = idle.pollFirst()) != null) {
+                if (slot.isHealthy() && !isWornOut(slot)) {
+                    return slot;
+                }
+                log.info("Discarding browser #{} on checkout (healthy={}, contexts={})",
+                        slot.id(), slot.isHealthy(), slot.contextsServed());
+                destroy(slot);
+            }
+            if (reserveSlot()) {
+                return launch();
+            }
+            // A warm-up launch holds the last slot; its browser lands in the idle deque shortly
+            try {
+                slot = idle.pollFirst(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BrowserPoolExhaustedException("Interrupted while waiting for a browser");
+            }
+            if (slot != null) {
+                idle.offerFirst(slot);
+            }
+        }
+    }
+
+    // Counts a browser as live before it is launched, so warm-ups and checkouts never exceed the pool size together
+    private boolean reserveSlot() {
+        int max = Math.max(1, properties.getSize());
+        while (true) {
+            int current = live.get();
+            if (current >= max) {
+                return false;
+            }
+            if (live.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isWornOut(PooledBrowser slot) {
+        return slot.contextsServed() >= properties.getMaxContextsPerBrowser() || isOverMemory(slot);
+    }
+
+    // RSS guard: renderer leaks show up as a process tree that keeps growing between contexts
+    private boolean isOverMemory(PooledBrowser slot) {
+        long limit = properties.getMaxRss().toBytes();
+        if (limit <= 0) {
+            return false;
+        }
+        long rss = slot.rssBytes();
+        if (rss > limit) {
+            log.warn("Browser #{} uses {} MB RSS, over the {} MB limit", slot.id(), rss / (1024 * 1024), limit / (1024 * 1024));
+            return true;
+        }
+        return false;
+    }
+
+    // Callers reserve the slot first (reserveSlot); a failed launch gives it back
+    private PooledBrowser launch() {
+        int id = nextId.incrementAndGet();
+        long start = System.currentTimeMillis();
+        Playwright playwright;
+        ProcessHandle driver;
+        // Launches are serialised only around driver start-up, to tell which new child process is ours
+        driverLock.lock();
+        try {
+            Set<Long> before = childPids();
+            try {
+                playwright = Playwright.create(new Playwright.CreateOptions()
+                        .setEnv(Map.of("PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD", "1")));
+            } catch (RuntimeException e) {
+                live.decrementAndGet();
+                throw e;
+            }
+            driver = ProcessHandle.current().children()
+                    .filter(child -> !before.contains(child.pid()))
+                    .findFirst()
+                    .orElse(null);
+        } finally {
+            driverLock.unlock();
+        }
+        try {
+            Path diskCache = properties.getDiskCacheDirectory().resolve("browser-" + id);
+            Browser browser = playwright.chromium()
+                    .launch(new BrowserType.LaunchOptions()
+                            .setHeadless(true)
+                            .setArgs(properties.getProfile().launchArgs(diskCache)));
+            log.info("Launched browser #{} ({} profile) in {} ms",
+                    id, properties.getProfile(), System.currentTimeMillis() - start);
+            return new PooledBrowser(id, playwright, browser, driver, diskCache);
+        } catch (RuntimeException e) {
+            playwright.close();
+            live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static Set<Long> childPids() {
+        return ProcessHandle.current().children().map(ProcessHandle::pid).collect(Collectors.toSet());
+    }
+
+    private void destroy(PooledBrowser slot) {
+        slot.close();
+        live.decrementAndGet();
+    }
+
+    private Browser.NewContextOptions contextOptions(String storageState) {
+        Browser.NewContextOptions options = new Browser.NewContextOptions()
+                .setUserAgent(USER_AGENT)
+                .setViewportSize(properties.getProfile().viewportWidth(), properties.getProfile().viewportHeight())
+                .setLocale("es-ES")
+                .setTimezoneId("Europe/Madrid")
+                .setJavaScriptEnabled(true)
+                .setIgnoreHTTPSErrors(true)
+                .setExtraHTTPHeaders(Map.of(
+                        "Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8",
+                        "Accept-Language", "es-ES,es;q=0.9,en;q=0.8",
+                        "Accept-Encoding", "gzip, deflate, br",
+                        "Cache-Control", "no-cache",
+                        "DNT", "1",
+                        "Sec-Fetch-Dest", "document",
+                        "Sec-Fetch-Mode", "navigate",
+                        "Sec-Fetch-Site", "none",
+                        "Upgrade-Insecure-Requests", "1"
+                ));
+        if (storageState != null) {
+            options.setStorageState(storageState);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,8 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+public class BrowserPoolExhaustedException extends RuntimeException {
+
+    public BrowserPoolExhaustedException(String message) {
+        super(message);
+    }
+}
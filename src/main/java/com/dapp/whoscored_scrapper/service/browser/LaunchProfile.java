@@ -0,0 +1,82 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Named Chromium launch settings. The Dockerfile gives the JVM 256 MB and Chromium shares the same container,
+// so LEAN is the default; STEALTH looks like a regular desktop browser for when Cloudflare gets picky.
+public enum LaunchProfile {
+
+    // One renderer, small V8 heap, small viewport, no images or media
+    LEAN(1024, 768, 1, 128, 16, false),
+    BALANCED(1366, 768, 2, 256, 64, false),
+    // Full HD with images, no process or heap caps
+    STEALTH(1920, 1080, 0, 0, 128, true);
+
+    private static final List<String> COMMON_ARGS = List.of(
+            "--no-sandbox",
+            "--disable-setuid-sandbox",
+            "--no-zygote",
+            "--disable-blink-features=AutomationControlled",
+            "--disable-dev-shm-usage",
+            "--disable-gpu",
+            "--disable-web-security",
+            "--disable-ipc-flooding-protection",
+            "--disable-extensions",
+            "--no-first-run",
+            "--disable-default-apps",
+            "--disable-popup-blocking",
+            "--disable-hang-monitor",
+            "--disable-background-timer-throttling",
+            "--disable-renderer-backgrounding",
+            "--disable-backgrounding-occluded-windows");
+
+    private final int viewportWidth;
+    private final int viewportHeight;
+    // 0 leaves the Chromium default
+    private final int rendererProcessLimit;
+    private final int jsHeapMegabytes;
+    private final int diskCacheMegabytes;
+    private final boolean media;
+
+    LaunchProfile(int viewportWidth, int viewportHeight, int rendererProcessLimit, int jsHeapMegabytes,
+            int diskCacheMegabytes, boolean media) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.rendererProcessLimit = rendererProcessLimit;
+        this.jsHeapMegabytes = jsHeapMegabytes;
+        this.diskCacheMegabytes = diskCacheMegabytes;
+        this.media = media;
+    }
+
+    public int viewportWidth() {
+        return viewportWidth;
+    }
+
+    public int viewportHeight() {
+        return viewportHeight;
+    }
+
+    // Chromium only honours the last --disable-features, so every disabled feature goes into a single flag
+    public List<String> launchArgs(Path diskCacheDirectory) {
+        List<String> args = new ArrayList<>(COMMON_ARGS);
+        List<String> disabledFeatures = new ArrayList<>(List.of("VizDisplayCompositor", "TranslateUI"));
+        if (rendererProcessLimit > 0) {
+            args.add("--renderer-process-limit=" + rendererProcessLimit);
+        }
+        if (jsHeapMegabytes > 0) {
+            args.add("--js-flags=--max-old-space-size=" + jsHeapMegabytes);
+        }
+        args.add("--disk-cache-dir=" + diskCacheDirectory.toAbsolutePath());
+        args.add("--disk-cache-size=" + diskCacheMegabytes * 1024L * 1024L);
+        if (!media) {
+            args.add("--blink-settings=imagesEnabled=false");
+            args.add("--mute-audio");
+            args.add("--autoplay-policy=user-gesture-required");
+            disabledFeatures.add("MediaRouter");
+        }
+        args.add("--disable-features=" + String.join(",", disabledFeatures));
+        return args;
+    }
+}
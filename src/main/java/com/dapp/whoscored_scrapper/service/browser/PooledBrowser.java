@@ -0,0 +1,103 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// A Chromium instance together with the Playwright driver that owns it.
+// Playwright objects are not thread safe, so a slot is only ever used by the thread holding its lease.
+class PooledBrowser {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledBrowser.class);
+
+    private final int id;
+    private final Playwright playwright;
+    private final Browser browser;
+    // Playwright's node driver; Chromium runs as its child, so this is the root of the browser's process tree
+    private final ProcessHandle driver;
+    private final Path diskCacheDirectory;
+    private final Instant createdAt = Instant.now();
+    // Written by the releasing thread, read by the eviction scheduler
+    private volatile int contextsServed;
+    private volatile Instant lastReleasedAt = Instant.now();
+
+    PooledBrowser(int id, Playwright playwright, Browser browser, ProcessHandle driver, Path diskCacheDirectory) {
+        this.id = id;
+        this.playwright = playwright;
+        this.browser = browser;
+        this.driver = driver;
+        this.diskCacheDirectory = diskCacheDirectory;
+    }
+
+    int id() {
+        return id;
+    }
+
+    Browser browser() {
+        return browser;
+    }
+
+    int contextsServed() {
+        return contextsServed;
+    }
+
+    Instant createdAt() {
+        return createdAt;
+    }
+
+    Instant lastReleasedAt() {
+        return lastReleasedAt;
+    }
+
+    void markReleased() {
+        contextsServed++;
+        lastReleasedAt = Instant.now();
+    }
+
+    // -1 when unknown (driver process not identified, or no /proc)
+    long rssBytes() {
+        return driver == null ? -1 : ProcessMemory.treeRssBytes(driver);
+    }
+
+    boolean isHealthy() {
+        try {
+            return browser.isConnected();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    void close() {
+        try {
+            browser.close();
+        } catch (Exception e) {
+            log.debug("Browser #{} did not close cleanly: {}", id, e.getMessage());
+        }
+        try {
+            playwright.close();
+        } catch (Exception e) {
+            log.debug("Playwright driver for browser #{} did not close cleanly: {}", id, e.getMessage());
+        }
+        deleteDiskCache();
+    }
+
+    private void deleteDiskCache() {
+        if (!Files.isDirectory(diskCacheDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(diskCacheDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.debug("Disk cache of browser #{} was not removed: {}", id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+// Resident memory of a process tree, read from /proc/<pid>/status. Only Linux has it: elsewhere this reports -1.
+public final class ProcessMemory {
+
+    private ProcessMemory() {
+    }
+
+    // The root and every descendant: a Playwright driver, its Chromium and all of Chromium's helpers
+    public static long treeRssBytes(ProcessHandle root) {
+        if (rssBytes(root.pid()) < 0) {
+            return -1;
+        }
+        try (Stream<ProcessHandle> tree = Stream.concat(Stream.of(root), root.descendants())) {
+            return tree.mapToLong(process -> Math.max(0, rssBytes(process.pid()))).sum();
+        }
+    }
+
+    static long rssBytes(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    // VmRSS:     123456 kB
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .orElse(-1L);
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or the process exited while we were reading
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.dapp.whoscored_scrapper.service.browser;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.ResourceBlockingProperties;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Aborts requests the scrapers never read (images, fonts, ads, trackers) before they reach the network
+@Component
+public class ResourceBlocker implements BrowserContextCustomizer {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceBlocker.class);
+    // Cloudflare serves its challenge scripts from the site's own /cdn-cgi/ path
+    private static final String CLOUDFLARE_PATH = "/cdn-cgi/";
+
+    private final ResourceBlockingProperties properties;
+    private final Set<String> blockedTypes;
+    private final MeterRegistry meterRegistry;
+    private final Counter bytesSaved;
+    private final Counter bytesLoaded;
+
+    public ResourceBlocker(ResourceBlockingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.bytesSaved = Counter.builder("whoscored.resources.bytes.saved")
+                .description("Estimated bytes not downloaded because the request was blocked")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesLoaded = Counter.builder("whoscored.resources.bytes.loaded")
+                .description("Bytes of responses that did load, from their Content-Length")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.blockedTypes = properties.getBlockedResourceTypes().stream()
+                .map(type -> type.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void customize(BrowserLease lease) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ScrapeResourceStats stats = new ScrapeResourceStats();
+        BrowserContext context = lease.context();
+        context.route("**/*", route -> handle(route, stats));
+        context.onResponse(response -> {
+            String length = response.headers().get("content-length");
+            if (length != null) {
+                try {
+                    long bytes = Long.parseLong(length);
+                    stats.bytesLoaded.addAndGet(bytes);
+                    bytesLoaded.increment(bytes);
+                } catch (NumberFormatException ignored) {
+                    // Malformed header, nothing to count
+                }
+            }
+        });
+        lease.onRelease(() -> report(stats));
+    }
+
+    private void handle(Route route, ScrapeResourceStats stats) {
+        Request request = route.request();
+        String url = request.url();
+        String host = hostOf(url);
+        String type = request.resourceType();
+
+        if (url.contains(CLOUDFLARE_PATH) || matchesDomain(host, properties.getAllowedDomains())) {
+            route.fallback();
+            return;
+        }
+        if (blockedTypes.contains(type)) {
+            block(route, type, "type", stats, stats.blockedByType, type);
+            return;
+        }
+        String blockedDomain = matchingDomain(host, properties.getBlockedDomains());
+        if (blockedDomain != null) {
+            block(route, type, "domain", stats, stats.blockedByDomain, blockedDomain);
+            return;
+        }
+        route.fallback();
+    }
+
+    private void block(Route route, String type, String reason, ScrapeResourceStats stats,
+            Map<String, AtomicInteger> counters, String key) {
+        counters.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        long saved = properties.getEstimatedBytesPerType().getOrDefault(type, 0L);
+        stats.estimatedBytesSaved.addAndGet(saved);
+        Counter.builder("whoscored.resources.blocked").tag("type", type).tag("reason", reason)
+                .register(meterRegistry).increment();
+        bytesSaved.increment(saved);
+        route.abort("blockedbyclient");
+    }
+
+    private void report(ScrapeResourceStats stats) {
+        int blocked = stats.blockedByType.values().stream().mapToInt(AtomicInteger::get).sum()
+                + stats.blockedByDomain.values().stream().mapToInt(AtomicInteger::get).sum();
+        log.info("Blocked {} requests (by type {}, by domain {}), ~{} KB saved, {} KB loaded", blocked,
+                stats.blockedByType, stats.blockedByDomain, stats.estimatedBytesSaved.get() / 1024, stats.bytesLoaded.get() / 1024);
+    }
+
+    private static boolean matchesDomain(String host, Iterable<String> domains) {
+        return matchingDomain(host, domains) != null;
+    }
+
+    // The configured domain the host falls under, or null
+    private static String matchingDomain(String host, Iterable<String> domains) {
+        if (host.isEmpty()) {
+            return null;
+        }
+        for (String domain : domains) {
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return domain;
+            }
+        }
+        return null;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static class ScrapeResourceStats {
+        private final Map<String, AtomicInteger> blockedByType = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> blockedByDomain = new ConcurrentHashMap<>();
+        private final AtomicLong estimatedBytesSaved = new AtomicLong();
+        private final AtomicLong bytesLoaded = new AtomicLong();
+    }
+}
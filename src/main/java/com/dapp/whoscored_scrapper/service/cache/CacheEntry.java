@@ -0,0 +1,15 @@
+package com.dapp.whoscored_scrapper.service.cache;
+
+import java.time.Instant;
+
+// etag is the SHA-256 of the value's canonical JSON, computed once when the entry is stored
+public record CacheEntry(Object value, Instant storedAt, Instant expiresAt, String etag) {
+
+    public <T> T valueAs(Class<T> type) {
+        return type.cast(value);
+    }
+
+    public ContentVersion version() {
+        return new ContentVersion(etag, storedAt);
+    }
+}
@@ -0,0 +1,62 @@
+package com.dapp.whoscored_scrapper.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+// Canonical JSON (sorted properties and map keys) and its SHA-256, so equal content always gets the same ETag
+@Component
+public class ContentHasher {
+
+    private final ObjectMapper canonicalMapper;
+
+    public ContentHasher(ObjectMapper objectMapper) {
+        this.canonicalMapper = objectMapper.rebuild()
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .build();
+    }
+
+    public String canonicalJson(Object value) throws JsonProcessingException {
+        return canonicalMapper.writeValueAsString(value);
+    }
+
+    public <T> T readValue(String json, Class<T> type) throws JsonProcessingException {
+        return canonicalMapper.readValue(json, type);
+    }
+
+    public String etag(Object value) {
+        try {
+            return hash(canonicalJson(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public String hash(String canonicalJson) {
+        return sha256(canonicalJson);
+    }
+
+    // Several hashed parts served as one document, e.g. a player's profile and match stats entries
+    public String combine(String... etags) {
+        return sha256(String.join(":", etags));
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.dapp.whoscored_scrapper.service.cache;
+
+import java.time.Instant;
+
+// What a conditional GET is answered from: the content hash and when that content was stored
+public record ContentVersion(String etag, Instant lastModified) {
+}
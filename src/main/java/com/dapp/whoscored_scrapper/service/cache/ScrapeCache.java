@@ -0,0 +1,191 @@
+package com.dapp.whoscored_scrapper.service.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.CacheProperties;
+import com.dapp.whoscored_scrapper.model.entity.CacheRegion;
+import com.dapp.whoscored_scrapper.model.entity.CachedScrape;
+import com.dapp.whoscored_scrapper.repository.CachedScrapeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Two-tier cache for scraped DTOs: a size-bounded Caffeine map in front of the H2 cached_scrape table. Both tiers keep
+// the canonical JSON and every read gets its own copy, so a caller changing its DTO cannot change the cached one.
+@Component
+public class ScrapeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeCache.class);
+
+    private final CacheProperties properties;
+    private final CachedScrapeRepository repository;
+    private final ContentHasher contentHasher;
+    private final Cache<String, StoredEntry> memory;
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public ScrapeCache(CacheProperties properties, CachedScrapeRepository repository, ContentHasher contentHasher,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.repository = repository;
+        this.contentHasher = contentHasher;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "scrapes");
+        this.persistentHits = Counter.builder("whoscored.cache.persistent").tag("result", "hit").register(meterRegistry);
+        this.persistentMisses = Counter.builder("whoscored.cache.persistent").tag("result", "miss").register(meterRegistry);
+    }
+
+    public Optional<CacheEntry> get(CacheRegion region, String key, Class<?> type) {
+        String memoryKey = memoryKey(region, key);
+        StoredEntry cached = memory.getIfPresent(memoryKey);
+        if (cached != null) {
+            Optional<CacheEntry> copy = deserialize(cached, type, region, key);
+            if (copy.isEmpty()) {
+                memory.invalidate(memoryKey);
+            }
+            return copy;
+        }
+        if (!properties.isPersistent()) {
+            return Optional.empty();
+        }
+
+        Optional<StoredEntry> row = repository.findByRegionAndCacheKey(region, key)
+                .filter(found -> found.getExpiresAt().isAfter(Instant.now()))
+                .map(found -> new StoredEntry(found.getPayload(), found.getStoredAt(), found.getExpiresAt(), found.getEtag()));
+        Optional<CacheEntry> stored = row.flatMap(found -> deserialize(found, type, region, key));
+        if (stored.isPresent()) {
+            persistentHits.increment();
+            memory.put(memoryKey, new StoredEntry(row.get().payload(), row.get().storedAt(), row.get().expiresAt(),
+                    stored.get().etag()));
+        } else {
+            persistentMisses.increment();
+        }
+        return stored;
+    }
+
+    @Transactional
+    public CacheEntry put(CacheRegion region, String key, Object value) {
+        return put(region, key, value, ttl(region));
+    }
+
+    @Transactional
+    public CacheEntry put(CacheRegion region, String key, Object value, Duration ttl) {
+        Instant now = Instant.now();
+        // Serialized once: the same canonical JSON is hashed for the ETag and stored as the payload
+        String payload;
+        try {
+            payload = contentHasher.canonicalJson(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not serialize " + region + " cache entry '" + key + "'", e);
+        }
+        CacheEntry entry = new CacheEntry(value, now, now.plus(ttl), contentHasher.hash(payload));
+        memory.put(memoryKey(region, key), new StoredEntry(payload, entry.storedAt(), entry.expiresAt(), entry.etag()));
+
+        if (properties.isPersistent()) {
+            try {
+                CachedScrape row = repository.findByRegionAndCacheKey(region, key).orElseGet(CachedScrape::new);
+                row.setRegion(region);
+                row.setCacheKey(key);
+                row.setPayload(payload);
+                row.setEtag(entry.etag());
+                row.setStoredAt(entry.storedAt());
+                row.setExpiresAt(entry.expiresAt());
+                repository.save(row);
+            } catch (Exception e) {
+                log.warn("Could not persist {} cache entry '{}': {}", region, key, e.getMessage());
+            }
+        }
+        return entry;
+    }
+
+    @Transactional
+    public void invalidate(CacheRegion region, String key) {
+        memory.invalidate(memoryKey(region, key));
+        repository.deleteEntry(region, key);
+    }
+
+    @Transactional
+    public void invalidateAll() {
+        memory.invalidateAll();
+        repository.deleteAllInBatch();
+    }
+
+    public long memorySize() {
+        return memory.estimatedSize();
+    }
+
+    public CacheStats memoryStats() {
+        return memory.stats();
+    }
+
+    public Duration ttl(CacheRegion region) {
+        return switch (region) {
+            case TEAM -> properties.getTeamTtl();
+            case PLAYER_PROFILE -> properties.getPlayerProfileTtl();
+            case PLAYER_MATCH_STATS -> properties.getPlayerMatchStatsTtl();
+        };
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${scraper.cache.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        int deleted = repository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired cache entries", deleted);
+        }
+    }
+
+    private Optional<CacheEntry> deserialize(StoredEntry stored, Class<?> type, CacheRegion region, String key) {
+        try {
+            Object value = contentHasher.readValue(stored.payload(), type);
+            String etag = stored.etag() != null ? stored.etag() : contentHasher.etag(value);
+            return Optional.of(new CacheEntry(value, stored.storedAt(), stored.expiresAt(), etag));
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable {} cache entry '{}': {}", region, key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String memoryKey(CacheRegion region, String key) {
+        return region + ":" + key;
+    }
+
+    private record StoredEntry(String payload, Instant storedAt, Instant expiresAt, String etag) {
+    }
+
+    // Each entry lives until its own expiresAt, so regions keep their TTL after being promoted from H2
+    private static class EntryExpiry implements Expiry<String, StoredEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredEntry entry, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.dapp.whoscored_scrapper.service.cache;
+
+public record Versioned<T>(T value, ContentVersion version) {
+}
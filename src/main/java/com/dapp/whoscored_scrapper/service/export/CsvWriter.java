@@ -0,0 +1,67 @@
+package com.dapp.whoscored_scrapper.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+// RFC 4180 rows with typed cells: numbers unquoted, null as an empty cell, text quoted only when needed
+class CsvWriter {
+
+    private final Writer out;
+    private boolean firstCell = true;
+
+    CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    CsvWriter text(String value) throws IOException {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(value);
+        }
+        return this;
+    }
+
+    CsvWriter number(Number value) throws IOException {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            out.write(String.format(Locale.ROOT, "%.2f", value.doubleValue()));
+        } else {
+            out.write(value.toString());
+        }
+        return this;
+    }
+
+    CsvWriter value(Object value) throws IOException {
+        return text(value == null ? null : value.toString());
+    }
+
+    void endRow() throws IOException {
+        out.write("\r\n");
+        firstCell = true;
+    }
+
+    void header(String... columns) throws IOException {
+        for (String column : columns) {
+            text(column);
+        }
+        endRow();
+    }
+
+    private void separate() throws IOException {
+        if (!firstCell) {
+            out.write(',');
+        }
+        firstCell = false;
+    }
+}
@@ -0,0 +1,117 @@
+package com.dapp.whoscored_scrapper.service.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.model.entity.SquadPlayerStats;
+import com.dapp.whoscored_scrapper.repository.PlayerMatchStatRepository;
+import com.dapp.whoscored_scrapper.repository.SquadPlayerStatsRepository;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+
+// Exports the typed rows stored in H2 as CSV. Rows are read by id in pages, each page its own query,
+// so a whole-league export keeps one page in memory and holds no connection while the client reads.
+@Service
+public class DatasetExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetExportService.class);
+    private static final int PAGE_SIZE = 500;
+
+    private final SquadPlayerStatsRepository squadPlayerStatsRepository;
+    private final PlayerMatchStatRepository playerMatchStatRepository;
+
+    public DatasetExportService(SquadPlayerStatsRepository squadPlayerStatsRepository,
+            PlayerMatchStatRepository playerMatchStatRepository) {
+        this.squadPlayerStatsRepository = squadPlayerStatsRepository;
+        this.playerMatchStatRepository = playerMatchStatRepository;
+    }
+
+    // Every stored squad, or only teamName's
+    public void writeSquads(String teamName, Writer out) throws IOException {
+        String team = lookupKey(teamName);
+        CsvWriter csv = new CsvWriter(out);
+        csv.header("team", "player", "age", "position", "height_cm", "weight_kg", "starts", "sub_appearances",
+                "mins_played", "goals", "assists", "yellow_cards", "red_cards", "shots_per_game", "pass_success",
+                "aerials_won_per_game", "man_of_the_match", "rating", "goals_per_90", "assists_per_90", "scraped_at");
+        long afterId = 0;
+        int total = 0;
+        List<SquadPlayerStats> page;
+        do {
+            page = squadPlayerStatsRepository.exportPage(team, afterId, PageRequest.of(0, PAGE_SIZE));
+            for (SquadPlayerStats row : page) {
+                csv.text(row.getTeam().getName())
+                        .text(row.getPlayer().getName())
+                        .number(row.getPlayer().getAge())
+                        .text(row.getPlayer().getPosition())
+                        .number(row.getPlayer().getHeightCm())
+                        .number(row.getPlayer().getWeightKg())
+                        .number(row.getAppearances())
+                        .number(row.getSubAppearances())
+                        .number(row.getMinsPlayed())
+                        .number(row.getGoals())
+                        .number(row.getAssists())
+                        .number(row.getYellowCards())
+                        .number(row.getRedCards())
+                        .number(row.getShotsPerGame())
+                        .number(row.getPassSuccess())
+                        .number(row.getAerialsWonPerGame())
+                        .number(row.getManOfTheMatch())
+                        .number(row.getRating())
+                        .number(row.getGoalsPer90())
+                        .number(row.getAssistsPer90())
+                        .value(row.getScrapedAt())
+                        .endRow();
+                afterId = row.getId();
+            }
+            total += page.size();
+            out.flush();
+        } while (page.size() == PAGE_SIZE);
+        log.info("Exported {} squad rows{}", total, team == null ? "" : " of '" + teamName + "'");
+    }
+
+    // Match rows of every tracked player, or only playerName's
+    public void writeMatches(String playerName, Writer out) throws IOException {
+        String player = lookupKey(playerName);
+        CsvWriter csv = new CsvWriter(out);
+        csv.header("player", "current_team", "match_date", "opponent", "score", "position", "mins_played", "goals",
+                "assists", "yellow_cards", "red_cards", "shots", "pass_success", "aerials_won", "rating");
+        long afterId = 0;
+        int total = 0;
+        List<PlayerMatchStat> page;
+        do {
+            page = playerMatchStatRepository.exportPage(player, afterId, PageRequest.of(0, PAGE_SIZE));
+            for (PlayerMatchStat row : page) {
+                csv.text(row.getPlayer().getName())
+                        .text(row.getPlayer().getCurrentTeam())
+                        .value(row.getMatchDate())
+                        .text(row.getOpponent())
+                        .text(row.getScore())
+                        .text(row.getPosition())
+                        .number(row.getMinsPlayed())
+                        .number(row.getGoals())
+                        .number(row.getAssists())
+                        .number(row.getYellowCards())
+                        .number(row.getRedCards())
+                        .number(row.getShots())
+                        .number(row.getPassSuccess())
+                        .number(row.getAerialsWon())
+                        .number(row.getRating())
+                        .endRow();
+                afterId = row.getId();
+            }
+            total += page.size();
+            out.flush();
+        } while (page.size() == PAGE_SIZE);
+        log.info("Exported {} match rows{}", total, player == null ? "" : " of '" + playerName + "'");
+    }
+
+    private static String lookupKey(String name) {
+        return name == null || name.isBlank() ? null : NameNormalizer.normalize(name);
+    }
+}
@@ -0,0 +1,87 @@
+package com.dapp.whoscored_scrapper.service.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.HttpFetchProperties;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.session.SessionStateStore;
+
+// Plain HTTP/2 client that presents the cleared browser session (cookies + user agent) to WhoScored.
+// One shared client so connections are pooled and reused across lookups.
+@Component
+public class SessionHttpClient implements DisposableBean {
+
+    private final HttpFetchProperties properties;
+    private final SessionStateStore sessionStore;
+    private final HttpClient client;
+
+    public SessionHttpClient(HttpFetchProperties properties, SessionStateStore sessionStore) {
+        this.properties = properties;
+        this.sessionStore = sessionStore;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // Empty when there is no fresh session to borrow: without cf_clearance every request is challenged
+    public Optional<HttpResponse<InputStream>> get(URI uri) throws IOException, InterruptedException {
+        return send(uri, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8", null);
+    }
+
+    // A StatisticsFeed request as the page's own scripts send it, with the page that triggers it as referer
+    public Optional<HttpResponse<InputStream>> getFeed(URI uri, URI referer) throws IOException, InterruptedException {
+        return send(uri, "application/json, text/javascript, */*; q=0.01", referer);
+    }
+
+    private Optional<HttpResponse<InputStream>> send(URI uri, String accept, URI referer)
+            throws IOException, InterruptedException {
+        Optional<String> cookies = sessionStore.cookieHeader(uri.getHost());
+        if (cookies.isEmpty()) {
+            return Optional.empty();
+        }
+        // No Accept-Encoding: HttpClient does not decompress, and the body is parsed as it arrives
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(properties.getRequestTimeout())
+                .header("User-Agent", BrowserPool.USER_AGENT)
+                .header("Accept", accept)
+                .header("Accept-Language", "es-ES,es;q=0.9,en;q=0.8")
+                .header("Cookie", cookies.get());
+        if (referer != null) {
+            request.header("Referer", referer.toString())
+                    .header("X-Requested-With", "XMLHttpRequest");
+        }
+        return Optional.of(client.send(request.GET().build(), HttpResponse.BodyHandlers.ofInputStream()));
+    }
+
+    // Cloudflare answers challenges with 403/503 and marks them with cf-mitigated
+    public static boolean isChallenge(HttpResponse<?> response) {
+        return response.statusCode() == 403 || response.statusCode() == 503
+                || response.headers().firstValue("cf-mitigated").isPresent();
+    }
+
+    public static boolean isChallengeTitle(String title) {
+        return title.contains("Just a moment") || title.contains("Attention Required") || title.contains("Cloudflare");
+    }
+
+    @Override
+    public void destroy() {
+        client.close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.dapp.whoscored_scrapper.service.job;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.JobProperties;
+
+// POST /api/jobs is public, so a callback URL must not let callers make this server call into its own network
+// (loopback, private ranges, link-local metadata endpoints such as 169.254.169.254)
+@Component
+public class CallbackUrlPolicy {
+
+    private final JobProperties properties;
+
+    public CallbackUrlPolicy(JobProperties properties) {
+        this.properties = properties;
+    }
+
+    // Throws IllegalArgumentException (400 at submit time) when the URL may not be called
+    public URI check(String callbackUrl) {
+        URI uri;
+        try {
+            uri = URI.create(callbackUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("callbackUrl is not a valid URL");
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalArgumentException("callbackUrl must be an http or https URL");
+        }
+        String host = uri.getHost();
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("callbackUrl has no host");
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        if (!properties.getCallbackAllowedHosts().isEmpty() && !isAllowedHost(host)) {
+            throw new IllegalArgumentException("callbackUrl host is not in the allowed callback hosts");
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("callbackUrl host does not resolve");
+        }
+        for (InetAddress address : addresses) {
+            if (isInternal(address)) {
+                throw new IllegalArgumentException("callbackUrl must not point to a local or private address");
+            }
+        }
+        return uri;
+    }
+
+    private boolean isAllowedHost(String host) {
+        for (String allowed : properties.getCallbackAllowedHosts()) {
+            String domain = allowed.toLowerCase(Locale.ROOT);
+            if (host.equals(domain) || host.endsWith("." + domain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        // IPv6 unique local addresses (fc00::/7) are not covered by isSiteLocalAddress
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xFE) == 0xFC;
+    }
+}
@@ -0,0 +1,59 @@
+package com.dapp.whoscored_scrapper.service.job;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.dapp.whoscored_scrapper.config.JobProperties;
+import com.dapp.whoscored_scrapper.model.dto.JobDTO;
+
+// POSTs the finished job to the URL the client gave; a failed delivery is logged, the job stays pollable
+@Component
+public class JobCallbackNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCallbackNotifier.class);
+
+    private final RestClient restClient;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+
+    public JobCallbackNotifier(RestClient.Builder builder, JobProperties properties, CallbackUrlPolicy callbackUrlPolicy) {
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        // A redirect could send the callback to an address the policy refused
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getCallbackTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getCallbackTimeout());
+        this.restClient = builder.requestFactory(requestFactory).build();
+    }
+
+    public Optional<Integer> notify(String callbackUrl, JobDTO job) {
+        try {
+            // Checked again at delivery, since the host may resolve elsewhere than at submit time. The client resolves
+            // it once more to connect; that lookup normally hits the JVM's DNS cache, but a host with a very short TTL
+            // can still answer differently in between. Set scraper.jobs.callback-allowed-hosts to rule that out
+            URI target = callbackUrlPolicy.check(callbackUrl);
+            int status = restClient.post()
+                    .uri(target)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(job)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .getStatusCode()
+                    .value();
+            log.info("Job {} callback delivered to {} ({})", job.getId(), callbackUrl, status);
+            return Optional.of(status);
+        } catch (Exception e) {
+            log.warn("Job {} callback to {} failed: {}", job.getId(), callbackUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.dapp.whoscored_scrapper.service.job;
+
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(String message) {
+        super(message);
+    }
+}
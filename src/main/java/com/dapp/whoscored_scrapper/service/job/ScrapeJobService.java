@@ -0,0 +1,204 @@
+package com.dapp.whoscored_scrapper.service.job;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.JobProperties;
+import com.dapp.whoscored_scrapper.model.dto.JobDTO;
+import com.dapp.whoscored_scrapper.model.dto.JobRequestDTO;
+import com.dapp.whoscored_scrapper.model.entity.JobStatus;
+import com.dapp.whoscored_scrapper.model.entity.ScrapeJob;
+import com.dapp.whoscored_scrapper.repository.ScrapeJobRepository;
+import com.dapp.whoscored_scrapper.service.CachedScrapeService;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeAdmissionController;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeCapacityExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Runs lookups off the request thread on a bounded executor; the scrape_job table is the source of truth
+@Service
+public class ScrapeJobService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeJobService.class);
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final int MAX_CAPACITY_RETRIES = 3;
+
+    private final ScrapeJobRepository repository;
+    private final CachedScrapeService cachedScrapeService;
+    private final JobCallbackNotifier callbackNotifier;
+    private final ObjectMapper objectMapper;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+    private final ScrapeAdmissionController admission;
+    private final JobProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public ScrapeJobService(ScrapeJobRepository repository, CachedScrapeService cachedScrapeService,
+            JobCallbackNotifier callbackNotifier, ObjectMapper objectMapper, JobProperties properties,
+            CallbackUrlPolicy callbackUrlPolicy, ScrapeAdmissionController admission, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cachedScrapeService = cachedScrapeService;
+        this.callbackNotifier = callbackNotifier;
+        this.objectMapper = objectMapper;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        this.admission = admission;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofVirtual().name("scrape-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("whoscored.jobs", this, ScrapeJobService::queuedJobs).tag("state", "queued").register(meterRegistry);
+        Gauge.builder("whoscored.jobs", this, ScrapeJobService::runningJobs).tag("state", "running").register(meterRegistry);
+    }
+
+    public JobDTO submit(JobRequestDTO request) {
+        validate(request);
+
+        ScrapeJob job = new ScrapeJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(request.getType());
+        job.setName(request.getName().trim());
+        job.setCallbackUrl(request.getCallbackUrl());
+        job.setStatus(JobStatus.QUEUED);
+        job.setCreatedAt(Instant.now());
+        repository.save(job);
+
+        try {
+            executor.execute(() -> run(job.getId()));
+        } catch (RejectedExecutionException e) {
+            repository.deleteById(job.getId());
+            throw new JobQueueFullException("Job queue is full (" + executor.getQueue().size() + " waiting), try again later");
+        }
+        log.info("Queued job {} ({} '{}')", job.getId(), job.getType(), job.getName());
+        return JobDTO.from(job);
+    }
+
+    public Optional<ScrapeJob> find(String id) {
+        return repository.findById(id);
+    }
+
+    public int queuedJobs() {
+        return executor.getQueue().size();
+    }
+
+    public int runningJobs() {
+        return executor.getActiveCount();
+    }
+
+    // Jobs queued before a restart are picked up again; the ones caught mid-scrape are reported as failed
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJobs() {
+        for (ScrapeJob job : repository.findByStatusOrderByCreatedAt(JobStatus.RUNNING)) {
+            finish(job, null, "Interrupted by a restart");
+        }
+        List<ScrapeJob> queued = repository.findByStatusOrderByCreatedAt(JobStatus.QUEUED);
+        for (ScrapeJob job : queued) {
+            try {
+                executor.execute(() -> run(job.getId()));
+            } catch (RejectedExecutionException e) {
+                finish(job, null, "Job queue was full after a restart");
+            }
+        }
+        if (!queued.isEmpty()) {
+            log.info("Requeued {} jobs left from the previous run", queued.size());
+        }
+    }
+
+    private void run(String id) {
+        ScrapeJob job = repository.findById(id).orElse(null);
+        if (job == null || job.getStatus() != JobStatus.QUEUED) {
+            return;
+        }
+        job.setStatus(JobStatus.RUNNING);
+        job.setStartedAt(Instant.now());
+        repository.save(job);
+
+        try {
+            // Accepted with 202 already: wait for a scrape slot rather than fail with "try again later"
+            Object result = admission.background(() -> lookup(job));
+            finish(job, objectMapper.writeValueAsString(result), null);
+        } catch (Exception e) {
+            log.warn("Job {} failed: {}", id, e.getMessage());
+            finish(job, null, e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        }
+    }
+
+    private Object lookup(ScrapeJob job) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return switch (job.getType()) {
+                    case TEAM -> cachedScrapeService.getTeam(job.getName());
+                    case PLAYER -> cachedScrapeService.getPlayer(job.getName());
+                };
+            } catch (ScrapeCapacityExceededException e) {
+                // Only reachable by joining a synchronous caller's scrape that was rejected; run our own next time
+                if (attempt >= MAX_CAPACITY_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Finished jobs keep their JSON result in a LOB; drop them once clients had time to fetch it
+    @Transactional
+    @Scheduled(fixedDelayString = "${scraper.jobs.cleanup-interval:PT1H}")
+    public void deleteFinished() {
+        int deleted = repository.deleteFinishedBefore(List.of(JobStatus.SUCCEEDED, JobStatus.FAILED),
+                Instant.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Deleted {} finished jobs older than {}", deleted, properties.getRetention());
+        }
+    }
+
+    private void finish(ScrapeJob job, String result, String error) {
+        job.setStatus(error == null ? JobStatus.SUCCEEDED : JobStatus.FAILED);
+        job.setResult(result);
+        job.setError(error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)));
+        job.setFinishedAt(Instant.now());
+        repository.save(job);
+
+        if (job.getCallbackUrl() != null) {
+            callbackNotifier.notify(job.getCallbackUrl(), JobDTO.from(job)).ifPresent(status -> {
+                job.setCallbackStatus(status);
+                repository.save(job);
+            });
+        }
+    }
+
+    private void validate(JobRequestDTO request) {
+        if (request.getType() == null) {
+            throw new IllegalArgumentException("type is required (TEAM or PLAYER)");
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (request.getCallbackUrl() != null) {
+            callbackUrlPolicy.check(request.getCallbackUrl());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Queued jobs stay QUEUED in the table and are requeued on the next start
+        executor.shutdownNow();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dapp.whoscored_scrapper.service.metrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Where a scrape spends its time and what it runs into. Percentiles/histograms are switched on per meter
+// prefix in application.properties (management.metrics.distribution.*), not here.
+@Component
+public class ScrapeMetrics {
+
+    private static final String OPERATION = "whoscored.scrape";
+    private static final String PHASE = "whoscored.scrape.phase";
+    private static final String READINESS = "whoscored.scrape.readiness";
+    private static final String TIER = "whoscored.scrape.tier";
+
+    private final MeterRegistry meterRegistry;
+
+    public ScrapeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // A whole scraper entry point: team lookup, player lookup, fixtures, league crawl...
+    public <T> T operation(String operation, Supplier<T> action) {
+        return timed(OPERATION, "operation", operation, action);
+    }
+
+    // One step inside a scrape: browser acquire, navigation, Cloudflare, cookie banner, search, extraction...
+    public <T> T phase(String phase, Supplier<T> action) {
+        return timed(PHASE, "phase", phase, action);
+    }
+
+    public void phase(String phase, Runnable action) {
+        phase(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Which fetch tier served a lookup. outcome: success, challenge, missing_data, no_session, error
+    public void tier(String tier, String outcome, Duration elapsed) {
+        Timer.builder(TIER)
+                .description("Lookups by fetch tier; non-success outcomes on http escalate to the browser")
+                .tag("tier", tier)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    public <T> T tier(String tier, Supplier<T> action) {
+        return timed(TIER, "tier", tier, action);
+    }
+
+    public void readinessWait(String step, boolean ready, Duration elapsed) {
+        Timer.builder(READINESS)
+                .description("Readiness waits by step; ready=false means the step timed out")
+                .tag("step", step)
+                .tag("ready", String.valueOf(ready))
+                .register(meterRegistry)
+                .record(elapsed);
+        if (!ready) {
+            timeout(step);
+        }
+    }
+
+    // The primary selector or source was not there and a fallback was used instead
+    public void selectorFallback(String kind) {
+        Counter.builder("whoscored.scrape.selector.fallback").tag("kind", kind).register(meterRegistry).increment();
+    }
+
+    // outcome: cleared (went away by itself), clicked, failed
+    public void cloudflare(String outcome) {
+        Counter.builder("whoscored.scrape.cloudflare").tag("outcome", outcome).register(meterRegistry).increment();
+    }
+
+    public void timeout(String step) {
+        Counter.builder("whoscored.scrape.timeouts").tag("step", step).register(meterRegistry).increment();
+    }
+
+    private <T> T timed(String name, String tagKey, String tagValue, Supplier<T> action) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder(name)
+                    .tag(tagKey, tagValue)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
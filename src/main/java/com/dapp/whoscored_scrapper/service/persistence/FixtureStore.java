@@ -0,0 +1,178 @@
+package com.dapp.whoscored_scrapper.service.persistence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.CacheProperties;
+import com.dapp.whoscored_scrapper.model.dto.GameMatchDTO;
+import com.dapp.whoscored_scrapper.model.entity.Fixture;
+import com.dapp.whoscored_scrapper.model.entity.Team;
+import com.dapp.whoscored_scrapper.repository.FixtureRepository;
+import com.dapp.whoscored_scrapper.repository.TeamRepository;
+import com.dapp.whoscored_scrapper.service.AbstractWebService;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+import com.dapp.whoscored_scrapper.utils.StatParsers;
+
+// Stored fixtures per team, and the match calendar derived from them
+@Component
+public class FixtureStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FixtureStore.class);
+    private static final Pattern FINAL_SCORE = Pattern.compile("\\d+\\s*:\\s*\\d+");
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("dd-MM-yy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+
+    private final TeamRepository teamRepository;
+    private final FixtureRepository fixtureRepository;
+    private final CacheProperties properties;
+
+    public FixtureStore(TeamRepository teamRepository, FixtureRepository fixtureRepository, CacheProperties properties) {
+        this.teamRepository = teamRepository;
+        this.fixtureRepository = fixtureRepository;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public void save(String teamName, List<GameMatchDTO> matches) {
+        String lookupKey = NameNormalizer.normalize(teamName);
+        Instant now = Instant.now();
+        Team team = teamRepository.findByLookupKey(lookupKey).orElseGet(() -> {
+            Team created = new Team();
+            created.setLookupKey(lookupKey);
+            created.setName(teamName.trim());
+            return created;
+        });
+        team.setFixturesScrapedAt(now);
+        team = teamRepository.save(team);
+
+        Map<String, Fixture> stored = fixtureRepository.findByTeam(team).stream()
+                .collect(Collectors.toMap(fixture -> key(fixture.getDateText(), fixture.getRivalTeam()),
+                        Function.identity(), (first, second) -> first, HashMap::new));
+        for (GameMatchDTO match : matches) {
+            if (isBlank(match.getDate()) || isBlank(match.getRivalTeam())) {
+                continue;
+            }
+            Fixture fixture = stored.computeIfAbsent(key(match.getDate(), match.getRivalTeam()), key -> new Fixture());
+            fixture.setDateText(match.getDate());
+            fixture.setRivalTeam(match.getRivalTeam());
+            fixture.setTeam(team);
+            fixture.setMatchDate(parseDate(match.getDate()));
+            fixture.setCompetition(isBlank(match.getCup()) ? null : match.getCup());
+            fixture.setScore(isBlank(match.getScore()) ? null : match.getScore());
+            fixture.setPlayed(fixture.getScore() != null && FINAL_SCORE.matcher(fixture.getScore()).find());
+            fixture.setResult(fixture.isPlayed() && !isBlank(match.getResult()) ? match.getResult() : null);
+            fixture.setRedCardsTeam(orZero(StatParsers.parseInt(match.getRedCardsActualTeam())));
+            fixture.setRedCardsRival(orZero(StatParsers.parseInt(match.getRedCardsRivalTeam())));
+            fixture.setScrapedAt(now);
+        }
+        fixtureRepository.saveAll(stored.values());
+        log.info("Stored {} fixtures of '{}'", stored.size(), team.getName());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Page<GameMatchDTO>> page(String teamName, Pageable pageable) {
+        return teamRepository.findByLookupKey(NameNormalizer.normalize(teamName))
+                .filter(team -> team.getFixturesScrapedAt() != null)
+                .map(team -> fixtureRepository.findByTeam(team, pageable).map(fixture -> toDto(team, fixture)));
+    }
+
+    // Fixtures are stale once a listed match has been played since they were read, or after fixturesTtl
+    @Transactional(readOnly = true)
+    public boolean needsRefresh(String teamName) {
+        Optional<Team> team = teamRepository.findByLookupKey(NameNormalizer.normalize(teamName));
+        if (team.isEmpty() || team.get().getFixturesScrapedAt() == null) {
+            return true;
+        }
+        Instant scrapedAt = team.get().getFixturesScrapedAt();
+        if (scrapedAt.plus(properties.getFixturesTtl()).isBefore(Instant.now())) {
+            return true;
+        }
+        LocalDate scrapedOn = LocalDate.ofInstant(scrapedAt, ZoneOffset.UTC);
+        return fixtureRepository.findFirstByTeamAndMatchDateGreaterThanEqualOrderByMatchDateAsc(team.get(), scrapedOn)
+                .filter(next -> !next.isPlayed())
+                .map(next -> !refreshAfter(next.getMatchDate()).isAfter(Instant.now()))
+                .orElse(false);
+    }
+
+    // When data about this team can next have changed: the first post-match refresh still ahead, which can belong
+    // to a match played yesterday whose stats are not in yet
+    @Transactional(readOnly = true)
+    public Optional<Instant> nextRefreshAt(String teamName) {
+        if (teamName == null) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        long delayDays = Math.ceilDiv(properties.getPostMatchDelay().toSeconds(), Duration.ofDays(1).toSeconds());
+        LocalDate from = LocalDate.ofInstant(now, ZoneOffset.UTC).minusDays(1 + delayDays);
+        return teamRepository.findByLookupKey(NameNormalizer.normalize(teamName))
+                .flatMap(team -> pendingRefresh(
+                        fixtureRepository.findByTeamAndMatchDateGreaterThanEqualOrderByMatchDateAsc(team, from), now));
+    }
+
+    // Fixtures in date order, so the first refresh after now is the earliest
+    Optional<Instant> pendingRefresh(List<Fixture> fixtures, Instant now) {
+        return fixtures.stream()
+                .map(fixture -> refreshAfter(fixture.getMatchDate()))
+                .filter(refreshAt -> refreshAt.isAfter(now))
+                .findFirst();
+    }
+
+    private Instant refreshAfter(LocalDate matchDate) {
+        return matchDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().plus(properties.getPostMatchDelay());
+    }
+
+    private static GameMatchDTO toDto(Team team, Fixture fixture) {
+        return GameMatchDTO.builder()
+                .cup(fixture.getCompetition())
+                .date(fixture.getDateText())
+                .actualTeam(team.getName())
+                .rivalTeam(fixture.getRivalTeam())
+                .redCardsActualTeam(String.valueOf(fixture.getRedCardsTeam()))
+                .redCardsRivalTeam(String.valueOf(fixture.getRedCardsRival()))
+                .score(fixture.getScore())
+                .result(fixture.getResult())
+                .build();
+    }
+
+    private static LocalDate parseDate(String text) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text.trim(), format);
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private static String key(String date, String rival) {
+        return date + "|" + rival;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank() || AbstractWebService.NOT_FOUND.equals(value);
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
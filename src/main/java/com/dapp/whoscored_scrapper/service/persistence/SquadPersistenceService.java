@@ -0,0 +1,135 @@
+package com.dapp.whoscored_scrapper.service.persistence;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.dapp.whoscored_scrapper.model.entity.Player;
+import com.dapp.whoscored_scrapper.model.entity.SquadPlayerStats;
+import com.dapp.whoscored_scrapper.model.entity.Team;
+import com.dapp.whoscored_scrapper.repository.PlayerRepository;
+import com.dapp.whoscored_scrapper.repository.SquadPlayerStatsRepository;
+import com.dapp.whoscored_scrapper.repository.TeamRepository;
+import com.dapp.whoscored_scrapper.service.AbstractWebService;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+import com.dapp.whoscored_scrapper.utils.StatParsers;
+
+// Stores every scraped squad with typed columns (team, players, season stats), so it can be queried
+// instead of re-parsed. The DTOs keep their strings for the existing API.
+@Service
+public class SquadPersistenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(SquadPersistenceService.class);
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final SquadPlayerStatsRepository statsRepository;
+
+    public SquadPersistenceService(TeamRepository teamRepository, PlayerRepository playerRepository,
+            SquadPlayerStatsRepository statsRepository) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.statsRepository = statsRepository;
+    }
+
+    @Transactional
+    public Team saveTeam(String searchedName, TeamDTO dto) {
+        String name = dto.getName() == null || AbstractWebService.NOT_FOUND.equals(dto.getName()) ? searchedName.trim() : dto.getName();
+        Instant now = Instant.now();
+        Team team = teamRepository.findByLookupKey(NameNormalizer.normalize(name)).orElseGet(Team::new);
+        team.setLookupKey(NameNormalizer.normalize(name));
+        team.setName(name);
+        team.setLastScrapedAt(now);
+        team = teamRepository.save(team);
+
+        Map<String, Player> players = playerRepository.findByTeam(team).stream()
+                .collect(Collectors.toMap(Player::getLookupKey, Function.identity()));
+        Map<Long, SquadPlayerStats> statsByPlayer = statsRepository.findByTeam(team).stream()
+                .collect(Collectors.toMap(stats -> stats.getPlayer().getId(), Function.identity()));
+
+        Map<String, Player> current = new HashMap<>();
+        List<SquadPlayerStats> toSave = new ArrayList<>();
+        List<TeamPlayerDTO> squad = dto.getSquad() == null ? List.of() : dto.getSquad();
+        for (TeamPlayerDTO row : squad) {
+            if (row.getName() == null || row.getName().isBlank() || AbstractWebService.NOT_FOUND.equals(row.getName())) {
+                continue;
+            }
+            String key = NameNormalizer.normalize(row.getName());
+            if (current.containsKey(key)) {
+                continue;
+            }
+            Player player = players.getOrDefault(key, new Player());
+            player.setTeam(team);
+            player.setLookupKey(key);
+            player.setName(row.getName());
+            player.setAge(StatParsers.parseInt(row.getAge()));
+            player.setPosition(AbstractWebService.NOT_FOUND.equals(row.getPosition()) ? null : row.getPosition());
+            player.setHeightCm(StatParsers.parseInt(row.getHeight()));
+            player.setWeightKg(StatParsers.parseInt(row.getWeight()));
+            player = playerRepository.save(player);
+            current.put(key, player);
+
+            SquadPlayerStats stats = player.getId() == null ? null : statsByPlayer.get(player.getId());
+            if (stats == null) {
+                stats = new SquadPlayerStats();
+                stats.setPlayer(player);
+            }
+            stats.setTeam(team);
+            copy(row, stats, now);
+            toSave.add(stats);
+        }
+        statsRepository.saveAll(toSave);
+
+        // Players who left the squad keep no stats for this team
+        List<Player> departed = players.values().stream()
+                .filter(player -> !current.containsKey(player.getLookupKey()))
+                .toList();
+        if (!departed.isEmpty()) {
+            statsRepository.deleteByPlayerIn(departed);
+            playerRepository.deleteAll(departed);
+        }
+        log.info("Persisted team '{}': {} players, {} departed", team.getName(), toSave.size(), departed.size());
+        return team;
+    }
+
+    private static void copy(TeamPlayerDTO row, SquadPlayerStats stats, Instant now) {
+        stats.setAppearances(orZero(StatParsers.starts(row.getApps())));
+        stats.setSubAppearances(orZero(StatParsers.substituteAppearances(row.getApps())));
+        stats.setMinsPlayed(orZero(StatParsers.parseInt(row.getMinsPlayed())));
+        stats.setGoals(orZero(StatParsers.parseInt(row.getGoals())));
+        stats.setAssists(orZero(StatParsers.parseInt(row.getAssists())));
+        stats.setYellowCards(orZero(StatParsers.parseInt(row.getYellowCards())));
+        stats.setRedCards(orZero(StatParsers.parseInt(row.getRedCards())));
+        stats.setShotsPerGame(orZero(StatParsers.parseDouble(row.getShotsPerGame())));
+        stats.setPassSuccess(orZero(StatParsers.parseDouble(row.getPassSuccess())));
+        stats.setAerialsWonPerGame(orZero(StatParsers.parseDouble(row.getAerialsWonPerGame())));
+        stats.setManOfTheMatch(orZero(StatParsers.parseInt(row.getManOfTheMatch())));
+        stats.setRating(StatParsers.parseRating(row.getRating()));
+        stats.setGoalsPer90(per90(stats.getGoals(), stats.getMinsPlayed()));
+        stats.setAssistsPer90(per90(stats.getAssists(), stats.getMinsPlayed()));
+        stats.setScrapedAt(now);
+    }
+
+    public static double per90(int count, int minutes) {
+        return minutes == 0 ? 0 : count * 90.0 / minutes;
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static double orZero(Double value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,93 @@
+package com.dapp.whoscored_scrapper.service.readiness;
+
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.allOf;
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.domQuiescent;
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.responseObserved;
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.scriptTrue;
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.selectorAttached;
+import static com.dapp.whoscored_scrapper.service.readiness.ReadinessConditions.selectorVisible;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.ReadinessProperties;
+import com.dapp.whoscored_scrapper.service.WhoScoredSelectors;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.microsoft.playwright.Page;
+
+// Event-driven replacement for fixed sleeps and NETWORKIDLE: each step waits for the signal that
+// actually matters on that page, and returns as soon as it is seen.
+@Component
+public class PageReadiness {
+
+    private static final Logger log = LoggerFactory.getLogger(PageReadiness.class);
+
+    private static final String CHALLENGE_GONE_SCRIPT = "() => !document.title.includes('Cloudflare') && "
+            + "!document.title.includes('Attention Required') && "
+            + "!document.title.includes('Just a moment') && "
+            + "!document.querySelector('div#cf-content, div.cf-browser-verification')";
+
+    private final ReadinessProperties properties;
+    private final ScrapeMetrics metrics;
+    private final Map<WaitStep, ReadinessCondition> strategies = new EnumMap<>(WaitStep.class);
+
+    public PageReadiness(ReadinessProperties properties, ScrapeMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        Duration quiet = properties.getDomQuietPeriod();
+
+        strategies.put(WaitStep.CLOUDFLARE_CLEARED, scriptTrue("challenge gone", CHALLENGE_GONE_SCRIPT));
+        strategies.put(WaitStep.CLOUDFLARE_AFTER_CLICK, scriptTrue("challenge gone", CHALLENGE_GONE_SCRIPT));
+        strategies.put(WaitStep.COOKIE_BANNER_SHOWN, selectorVisible(WhoScoredSelectors.anyOf(WhoScoredSelectors.COOKIE_BUTTONS)));
+        strategies.put(WaitStep.COOKIE_BANNER_DISMISSED, domQuiescent(quiet));
+        strategies.put(WaitStep.SEARCH_INPUT_READY, selectorVisible(WhoScoredSelectors.anyOf(WhoScoredSelectors.SEARCH_INPUTS)));
+        strategies.put(WaitStep.SEARCH_RESULTS_READY, allOf(
+                selectorAttached(WhoScoredSelectors.SEARCH_RESULTS),
+                domQuiescent(quiet)));
+        strategies.put(WaitStep.TOURNAMENT_PAGE_READY, selectorAttached(WhoScoredSelectors.TEAM_LINKS));
+        strategies.put(WaitStep.TEAM_PAGE_READY, selectorAttached(WhoScoredSelectors.TEAM_HEADER));
+        strategies.put(WaitStep.FIXTURES_READY, selectorAttached(WhoScoredSelectors.FIXTURE_ROWS));
+        strategies.put(WaitStep.PLAYER_PAGE_READY, selectorAttached(WhoScoredSelectors.PLAYER_INFO));
+        strategies.put(WaitStep.MATCH_STATS_READY, allOf(
+                responseObserved("StatisticsFeed", response -> response.url().contains("/StatisticsFeed/")),
+                selectorAttached(WhoScoredSelectors.STATS_TABLE_BODY + " tr")));
+
+        strategies.forEach((step, condition) ->
+                log.info("Wait strategy {} -> {} (timeout {})", step, condition.describe(), timeout(step)));
+    }
+
+    public boolean await(WaitStep step, Page page) {
+        return await(step, page, () -> { });
+    }
+
+    // Runs the trigger and waits for the step's condition; false means the condition was not seen in time
+    public boolean await(WaitStep step, Page page, Runnable trigger) {
+        ReadinessCondition condition = strategies.get(step);
+        long start = System.currentTimeMillis();
+        boolean ready = condition.await(page, timeout(step), trigger);
+        long elapsed = System.currentTimeMillis() - start;
+        metrics.readinessWait(step.name(), ready, Duration.ofMillis(elapsed));
+        if (ready) {
+            log.debug("{} ready after {} ms via {}", step, elapsed, condition.describe());
+        } else {
+            log.warn("{} not ready after {} ms via {}", step, elapsed, condition.describe());
+        }
+        return ready;
+    }
+
+    public Duration timeout(WaitStep step) {
+        return properties.getTimeouts().getOrDefault(step, step.getDefaultTimeout());
+    }
+
+    public Map<WaitStep, String> describeStrategies() {
+        Map<WaitStep, String> descriptions = new EnumMap<>(WaitStep.class);
+        strategies.forEach((step, condition) -> descriptions.put(step, condition.describe()));
+        return Collections.unmodifiableMap(descriptions);
+    }
+}
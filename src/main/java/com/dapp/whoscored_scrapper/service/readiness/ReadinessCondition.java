@@ -0,0 +1,15 @@
+package com.dapp.whoscored_scrapper.service.readiness;
+
+import java.time.Duration;
+
+import com.microsoft.playwright.Page;
+
+// Something observable on the page that tells us it is ready for the next step.
+// The trigger is the action that makes the page change (click, Enter...); conditions that listen
+// for events must start listening before it runs.
+public interface ReadinessCondition {
+
+    boolean await(Page page, Duration timeout, Runnable trigger);
+
+    String describe();
+}
@@ -0,0 +1,156 @@
+package com.dapp.whoscored_scrapper.service.readiness;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+public final class ReadinessConditions {
+
+    // Resolves true once no DOM mutation happened for quietMs, false if the page keeps changing until maxMs
+    private static final String DOM_QUIESCENCE_SCRIPT = """
+            ({ quietMs, maxMs }) => new Promise(resolve => {
+                const observer = new MutationObserver(() => {
+                    clearTimeout(quietTimer);
+                    quietTimer = setTimeout(done, quietMs, true);
+                });
+                let quietTimer = setTimeout(done, quietMs, true);
+                const deadline = setTimeout(done, maxMs, false);
+                function done(quiet) {
+                    observer.disconnect();
+                    clearTimeout(quietTimer);
+                    clearTimeout(deadline);
+                    resolve(quiet);
+                }
+                observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+            })
+            """;
+
+    private ReadinessConditions() {
+    }
+
+    public static ReadinessCondition selectorAttached(String selector) {
+        return selectorState(selector, WaitForSelectorState.ATTACHED);
+    }
+
+    public static ReadinessCondition selectorVisible(String selector) {
+        return selectorState(selector, WaitForSelectorState.VISIBLE);
+    }
+
+    public static ReadinessCondition responseObserved(String description, Predicate<Response> predicate) {
+        return new ReadinessCondition() {
+            @Override
+            public boolean await(Page page, Duration timeout, Runnable trigger) {
+                try {
+                    page.waitForResponse(predicate,
+                            new Page.WaitForResponseOptions().setTimeout(timeout.toMillis()), trigger);
+                    return true;
+                } catch (TimeoutError e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public String describe() {
+                return "response(" + description + ")";
+            }
+        };
+    }
+
+    public static ReadinessCondition domQuiescent(Duration quietPeriod) {
+        return new ReadinessCondition() {
+            @Override
+            public boolean await(Page page, Duration timeout, Runnable trigger) {
+                trigger.run();
+                try {
+                    Object quiet = page.evaluate(DOM_QUIESCENCE_SCRIPT,
+                            Map.of("quietMs", quietPeriod.toMillis(), "maxMs", timeout.toMillis()));
+                    return Boolean.TRUE.equals(quiet);
+                } catch (PlaywrightException e) {
+                    // Navigation destroyed the execution context: the DOM is obviously not quiet yet
+                    return false;
+                }
+            }
+
+            @Override
+            public String describe() {
+                return "domQuiescent(" + quietPeriod.toMillis() + "ms)";
+            }
+        };
+    }
+
+    public static ReadinessCondition scriptTrue(String description, String predicate) {
+        return new ReadinessCondition() {
+            @Override
+            public boolean await(Page page, Duration timeout, Runnable trigger) {
+                trigger.run();
+                try {
+                    page.waitForFunction(predicate, null,
+                            new Page.WaitForFunctionOptions().setTimeout(timeout.toMillis()));
+                    return true;
+                } catch (TimeoutError e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public String describe() {
+                return "script(" + description + ")";
+            }
+        };
+    }
+
+    // Conditions are checked in order and share the same time budget
+    public static ReadinessCondition allOf(ReadinessCondition... conditions) {
+        return new ReadinessCondition() {
+            @Override
+            public boolean await(Page page, Duration timeout, Runnable trigger) {
+                long deadline = System.currentTimeMillis() + timeout.toMillis();
+                Runnable pending = trigger;
+                for (ReadinessCondition condition : conditions) {
+                    long remaining = Math.max(1, deadline - System.currentTimeMillis());
+                    if (!condition.await(page, Duration.ofMillis(remaining), pending)) {
+                        return false;
+                    }
+                    pending = () -> { };
+                }
+                return true;
+            }
+
+            @Override
+            public String describe() {
+                return Arrays.stream(conditions).map(ReadinessCondition::describe).collect(Collectors.joining(" + "));
+            }
+        };
+    }
+
+    private static ReadinessCondition selectorState(String selector, WaitForSelectorState state) {
+        return new ReadinessCondition() {
+            @Override
+            public boolean await(Page page, Duration timeout, Runnable trigger) {
+                trigger.run();
+                try {
+                    page.locator(selector).first().waitFor(new Locator.WaitForOptions()
+                            .setState(state)
+                            .setTimeout(timeout.toMillis()));
+                    return true;
+                } catch (TimeoutError e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public String describe() {
+                return state.name().toLowerCase() + "(" + selector + ")";
+            }
+        };
+    }
+}
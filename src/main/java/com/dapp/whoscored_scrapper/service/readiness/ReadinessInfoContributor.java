@@ -0,0 +1,28 @@
+package com.dapp.whoscored_scrapper.service.readiness;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+
+// Publishes the wait strategy and timeout of every step under /actuator/info -> readiness
+@Component
+public class ReadinessInfoContributor implements InfoContributor {
+
+    private final PageReadiness readiness;
+
+    public ReadinessInfoContributor(PageReadiness readiness) {
+        this.readiness = readiness;
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Map<String, String>> steps = new LinkedHashMap<>();
+        readiness.describeStrategies().forEach((step, strategy) -> steps.put(step.name(), Map.of(
+                "strategy", strategy,
+                "timeout", readiness.timeout(step).toString())));
+        builder.withDetail("readiness", steps);
+    }
+}
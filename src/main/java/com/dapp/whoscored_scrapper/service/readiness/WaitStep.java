@@ -0,0 +1,27 @@
+package com.dapp.whoscored_scrapper.service.readiness;
+
+import java.time.Duration;
+
+public enum WaitStep {
+    CLOUDFLARE_CLEARED(Duration.ofMinutes(2)),
+    CLOUDFLARE_AFTER_CLICK(Duration.ofSeconds(30)),
+    COOKIE_BANNER_SHOWN(Duration.ofSeconds(5)),
+    COOKIE_BANNER_DISMISSED(Duration.ofSeconds(5)),
+    SEARCH_INPUT_READY(Duration.ofSeconds(15)),
+    SEARCH_RESULTS_READY(Duration.ofSeconds(30)),
+    TOURNAMENT_PAGE_READY(Duration.ofSeconds(20)),
+    TEAM_PAGE_READY(Duration.ofSeconds(15)),
+    FIXTURES_READY(Duration.ofSeconds(15)),
+    PLAYER_PAGE_READY(Duration.ofSeconds(15)),
+    MATCH_STATS_READY(Duration.ofSeconds(20));
+
+    private final Duration defaultTimeout;
+
+    WaitStep(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dapp.whoscored_scrapper.service.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.ReplayProperties;
+import com.dapp.whoscored_scrapper.service.browser.BrowserContextCustomizer;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.HarContentPolicy;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+
+// Records what the scrapers see (HAR per context + final HTML of each page) and serves it back offline,
+// so scrapes and benchmarks can run without WhoScored
+@Component
+public class PageReplay implements BrowserContextCustomizer {
+
+    private static final Logger log = LoggerFactory.getLogger(PageReplay.class);
+
+    private final ReplayProperties properties;
+    private final AtomicInteger recordings = new AtomicInteger();
+    private volatile List<Path> harFiles;
+
+    public PageReplay(ReplayProperties properties) {
+        this.properties = properties;
+        if (properties.getMode() != ReplayProperties.Mode.OFF) {
+            log.info("Replay mode {} using {}", properties.getMode(), properties.getDirectory().toAbsolutePath());
+        }
+    }
+
+    @Override
+    public void customize(BrowserLease lease) {
+        switch (properties.getMode()) {
+            case RECORD -> record(lease);
+            case REPLAY -> replay(lease.context());
+            case OFF -> { }
+        }
+    }
+
+    private void record(BrowserLease lease) {
+        Path har = harDirectory().resolve("context-" + System.currentTimeMillis() + "-" + recordings.incrementAndGet() + ".har");
+        createDirectories(har.getParent());
+        // Update mode writes the HAR when the context closes; MINIMAL keeps only what routeFromHAR needs
+        lease.context().routeFromHAR(har, new BrowserContext.RouteFromHAROptions()
+                .setUpdate(true)
+                .setUpdateContent(HarContentPolicy.EMBED)
+                .setUpdateMode(HarMode.MINIMAL)
+                .setNotFound(HarNotFound.FALLBACK));
+        lease.onRelease(() -> lease.context().pages().forEach(this::snapshot));
+    }
+
+    // Routes registered last are tried first: the HARs, then the catch-all that keeps replay offline
+    private void replay(BrowserContext context) {
+        context.route("**/*", route -> {
+            log.debug("Not recorded, aborting {}", route.request().url());
+            route.abort("internetdisconnected");
+        });
+        for (Path har : harFiles()) {
+            context.routeFromHAR(har, new BrowserContext.RouteFromHAROptions().setNotFound(HarNotFound.FALLBACK));
+        }
+    }
+
+    private void snapshot(Page page) {
+        try {
+            Path file = htmlDirectory().resolve(fileName(page.url()) + ".html");
+            createDirectories(file.getParent());
+            Files.writeString(file, page.content(), StandardCharsets.UTF_8);
+            log.info("Saved HTML snapshot of {} to {}", page.url(), file);
+        } catch (Exception e) {
+            log.warn("Could not save HTML snapshot of {}: {}", page.url(), e.getMessage());
+        }
+    }
+
+    // Read once: recordings made while replaying would not be consistent anyway
+    private List<Path> harFiles() {
+        List<Path> files = harFiles;
+        if (files == null) {
+            try (Stream<Path> listing = Files.isDirectory(harDirectory()) ? Files.list(harDirectory()) : Stream.empty()) {
+                files = listing.filter(path -> path.toString().endsWith(".har")).sorted().toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (files.isEmpty()) {
+                log.warn("Replay mode without recordings in {}: every request will be aborted", harDirectory());
+            }
+            harFiles = files;
+        }
+        return files;
+    }
+
+    private Path harDirectory() {
+        return properties.getDirectory().resolve("har");
+    }
+
+    private Path htmlDirectory() {
+        return properties.getDirectory().resolve("html");
+    }
+
+    // https://es.whoscored.com/Teams/52/Show/Spain-Real-Madrid -> teams-52-show-spain-real-madrid
+    static String fileName(String url) {
+        String path;
+        try {
+            URI uri = URI.create(url);
+            path = uri.getPath() == null ? "" : uri.getPath();
+            if (uri.getQuery() != null) {
+                path += "-" + uri.getQuery();
+            }
+        } catch (IllegalArgumentException e) {
+            path = url;
+        }
+        String name = path.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        return name.isEmpty() ? "index" : name.length() > 120 ? name.substring(0, 120) : name;
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
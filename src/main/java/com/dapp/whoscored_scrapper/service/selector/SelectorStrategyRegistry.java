@@ -0,0 +1,244 @@
+package com.dapp.whoscored_scrapper.service.selector;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.SelectorProperties;
+import com.dapp.whoscored_scrapper.model.entity.SelectorHitStat;
+import com.dapp.whoscored_scrapper.model.entity.SelectorStep;
+import com.dapp.whoscored_scrapper.repository.SelectorHitStatRepository;
+import com.dapp.whoscored_scrapper.service.WhoScoredSelectors;
+import com.microsoft.playwright.Page;
+
+// Finds the first visible candidate of a step in one evaluate call (instead of one isVisible round trip per
+// candidate), trying the selectors that matched recently first. Hit statistics are kept in H2.
+@Component
+public class SelectorStrategyRegistry implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SelectorStrategyRegistry.class);
+
+    // Returns the index of the first candidate with a visible match, -1 if none. Candidates are
+    // {css, text}: text stands for Playwright's :has-text(), a case-insensitive substring of the element text.
+    private static final String PROBE_SCRIPT = """
+            candidates => {
+                const visible = el => {
+                    const style = getComputedStyle(el);
+                    const box = el.getBoundingClientRect();
+                    return style.visibility !== 'hidden' && style.display !== 'none' && box.width > 0 && box.height > 0;
+                };
+                for (let i = 0; i < candidates.length; i++) {
+                    let elements;
+                    try {
+                        elements = document.querySelectorAll(candidates[i].css);
+                    } catch (e) {
+                        continue;
+                    }
+                    const text = candidates[i].text;
+                    for (const el of elements) {
+                        if (text && !(el.innerText || '').toLowerCase().includes(text)) {
+                            continue;
+                        }
+                        if (visible(el)) {
+                            return i;
+                        }
+                    }
+                }
+                return -1;
+            }
+            """;
+    private static final Pattern HAS_TEXT = Pattern.compile("^(.*):has-text\\('([^']*)'\\)$");
+
+    private final SelectorHitStatRepository repository;
+    private final SelectorProperties properties;
+    private final Map<SelectorStep, List<String>> declared = new EnumMap<>(SelectorStep.class);
+    private final Map<SelectorStep, Map<String, Stat>> stats = new EnumMap<>(SelectorStep.class);
+    // Hits recorded per step: the clock the scores decay by
+    private final Map<SelectorStep, Long> stepHits = new EnumMap<>(SelectorStep.class);
+
+    public SelectorStrategyRegistry(SelectorHitStatRepository repository, SelectorProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        declared.put(SelectorStep.SEARCH_INPUT, WhoScoredSelectors.SEARCH_INPUTS);
+        declared.put(SelectorStep.COOKIE_BUTTON, WhoScoredSelectors.COOKIE_BUTTONS);
+        declared.put(SelectorStep.CLOUDFLARE_BUTTON, WhoScoredSelectors.CLOUDFLARE_BUTTONS);
+        declared.forEach((step, selectors) -> {
+            Map<String, Stat> bySelector = new LinkedHashMap<>();
+            selectors.forEach(selector -> bySelector.put(selector, new Stat()));
+            stats.put(step, bySelector);
+            stepHits.put(step, 0L);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<SelectorHitStat> rows = repository.findAll();
+        int loaded = 0;
+        synchronized (this) {
+            Map<Stat, Long> scoredAt = new HashMap<>();
+            for (SelectorHitStat row : rows) {
+                Stat stat = stats.get(row.getStep()).get(row.getSelector());
+                // Rows of selectors no longer declared are ignored
+                if (stat != null) {
+                    stat.hits = row.getHits();
+                    stat.score = row.getScore();
+                    stat.lastHitAt = row.getLastHitAt();
+                    scoredAt.put(stat, row.getScoreStepHits());
+                    loaded++;
+                }
+            }
+            // Each hit counted once on its selector and once on the step, so the step clock is the sum of its hits.
+            // Rows without a step count were all written together, current as of that clock.
+            stats.forEach((step, bySelector) -> {
+                long clock = bySelector.values().stream().mapToLong(stat -> stat.hits).sum();
+                stepHits.put(step, clock);
+                bySelector.values().forEach(stat -> {
+                    Long at = scoredAt.get(stat);
+                    stat.scoredAt = at == null ? clock : Math.min(at, clock);
+                });
+            });
+        }
+        log.info("Loaded hit statistics of {} selectors", loaded);
+    }
+
+    // Candidates in the order they are tried: most recent hits first, ties in declared order
+    public synchronized List<String> ordered(SelectorStep step) {
+        List<String> candidates = new ArrayList<>(declared.get(step));
+        if (properties.isAdaptive()) {
+            Map<String, Stat> bySelector = stats.get(step);
+            long clock = stepHits.get(step);
+            candidates.sort(Comparator.comparingDouble((String selector) -> decayed(bySelector.get(selector), clock))
+                    .reversed());
+        }
+        return candidates;
+    }
+
+    // The best visible candidate on the page right now, recorded as a hit
+    public Optional<String> probe(Page page, SelectorStep step) {
+        List<String> candidates = ordered(step);
+        List<Map<String, String>> probes = candidates.stream().map(SelectorStrategyRegistry::toProbe).toList();
+        Object index = page.evaluate(PROBE_SCRIPT, probes);
+        int found = index instanceof Number number ? number.intValue() : -1;
+        if (found < 0) {
+            return Optional.empty();
+        }
+        String selector = candidates.get(found);
+        recordHit(step, selector);
+        return Optional.of(selector);
+    }
+
+    public boolean isPrimary(SelectorStep step, String selector) {
+        return declared.get(step).get(0).equals(selector);
+    }
+
+    // Diagnostics cost dozens of round trips; only a sample of the failures pays for them
+    public boolean sampleDiagnostics() {
+        return ThreadLocalRandom.current().nextDouble() < properties.getDiagnosticsSampleRate();
+    }
+
+    // Every hit of a step decays all of its scores once. The decay is applied when a score is read or updated, so a
+    // hit only changes, and only dirties, the selector that matched
+    public synchronized void recordHit(SelectorStep step, String selector) {
+        Stat stat = stats.get(step).get(selector);
+        if (stat == null) {
+            return;
+        }
+        long clock = stepHits.merge(step, 1L, Long::sum);
+        stat.score = decayed(stat, clock) + 1;
+        stat.scoredAt = clock;
+        stat.hits++;
+        stat.lastHitAt = Instant.now();
+        stat.dirty = true;
+    }
+
+    private double decayed(Stat stat, long clock) {
+        return stat.score * Math.pow(properties.getDecay(), clock - stat.scoredAt);
+    }
+
+    // Copies the dirty stats under the monitor and does the H2 work outside it, so probes never wait on the database
+    @Scheduled(fixedDelayString = "${scraper.selectors.flush-interval:PT1M}")
+    public void flush() {
+        List<Snapshot> dirty = new ArrayList<>();
+        synchronized (this) {
+            stats.forEach((step, bySelector) -> bySelector.forEach((selector, stat) -> {
+                if (stat.dirty) {
+                    dirty.add(new Snapshot(step, selector, stat.hits, stat.score, stat.scoredAt, stat.lastHitAt));
+                    stat.dirty = false;
+                }
+            }));
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            List<SelectorHitStat> rows = new ArrayList<>();
+            for (Snapshot snapshot : dirty) {
+                SelectorHitStat row = repository.findByStepAndSelector(snapshot.step(), snapshot.selector())
+                        .orElseGet(SelectorHitStat::new);
+                row.setStep(snapshot.step());
+                row.setSelector(snapshot.selector());
+                row.setHits(snapshot.hits());
+                row.setScore(snapshot.score());
+                row.setScoreStepHits(snapshot.scoredAt());
+                row.setLastHitAt(snapshot.lastHitAt());
+                rows.add(row);
+            }
+            repository.saveAll(rows);
+            log.debug("Saved hit statistics of {} selectors", rows.size());
+        } catch (RuntimeException e) {
+            // Saved again on the next flush
+            synchronized (this) {
+                dirty.forEach(snapshot -> stats.get(snapshot.step()).get(snapshot.selector()).dirty = true);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Could not save selector hit statistics: {}", e.getMessage());
+        }
+    }
+
+    // "button:has-text('Aceptar')" -> {css: "button", text: "aceptar"}
+    static Map<String, String> toProbe(String selector) {
+        Matcher matcher = HAS_TEXT.matcher(selector);
+        if (matcher.matches()) {
+            return Map.of("css", matcher.group(1), "text", matcher.group(2).toLowerCase(Locale.ROOT));
+        }
+        return Map.of("css", selector, "text", "");
+    }
+
+    private record Snapshot(SelectorStep step, String selector, long hits, double score, long scoredAt,
+            Instant lastHitAt) {
+    }
+
+    private static class Stat {
+        private long hits;
+        private double score;
+        private long scoredAt;
+        private Instant lastHitAt;
+        private boolean dirty;
+    }
+}
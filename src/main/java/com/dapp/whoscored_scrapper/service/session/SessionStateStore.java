@@ -0,0 +1,136 @@
+package com.dapp.whoscored_scrapper.service.session;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.dapp.whoscored_scrapper.config.SessionProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.BrowserContext;
+
+// Keeps the cleared WhoScored session (cf_clearance, consent cookies, localStorage) on disk
+// so new browser contexts start past Cloudflare and the cookie banner.
+@Component
+public class SessionStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionStateStore.class);
+    private static final String CLEARANCE_COOKIE = "cf_clearance";
+
+    private final SessionProperties properties;
+    private final ObjectMapper objectMapper;
+    private volatile Instant expiresAt = Instant.EPOCH;
+
+    public SessionStateStore(SessionProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        loadFromDisk();
+    }
+
+    // Storage state JSON that is still valid, or empty if a full warm-up is needed. Read into memory so a
+    // concurrent invalidate() deleting the file cannot break a context that is being created from it.
+    public Optional<String> freshState() {
+        if (Instant.now().isAfter(expiresAt)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(properties.getStateFile()));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Cookie header for plain HTTP requests to the given host, built from the fresh storage state
+    public Optional<String> cookieHeader(String host) {
+        Optional<String> state = freshState();
+        if (state.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            StringJoiner header = new StringJoiner("; ");
+            for (JsonNode cookie : objectMapper.readTree(state.get()).path("cookies")) {
+                String domain = cookie.path("domain").asText();
+                String bare = domain.startsWith(".") ? domain.substring(1) : domain;
+                if (host.equals(bare) || host.endsWith("." + bare)) {
+                    header.add(cookie.path("name").asText() + "=" + cookie.path("value").asText());
+                }
+            }
+            return header.length() == 0 ? Optional.empty() : Optional.of(header.toString());
+        } catch (IOException e) {
+            log.debug("Could not read session cookies: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public boolean needsRefresh() {
+        return Instant.now().plus(properties.getRefreshBefore()).isAfter(expiresAt);
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    public synchronized void save(BrowserContext context) {
+        Path target = properties.getStateFile();
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            context.storageState(new BrowserContext.StorageStateOptions().setPath(tmp));
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            expiresAt = computeExpiry(target, Instant.now());
+            log.info("WhoScored session saved, valid until {}", expiresAt);
+        } catch (Exception e) {
+            log.warn("Could not save WhoScored session state: {}", e.getMessage());
+        }
+    }
+
+    // Called when a restored session still hits a challenge: the clearance was revoked early
+    public synchronized void invalidate() {
+        if (expiresAt.isAfter(Instant.EPOCH)) {
+            log.warn("WhoScored session rejected by Cloudflare, discarding it");
+        }
+        expiresAt = Instant.EPOCH;
+        try {
+            Files.deleteIfExists(properties.getStateFile());
+        } catch (IOException e) {
+            log.debug("Could not delete session state: {}", e.getMessage());
+        }
+    }
+
+    private void loadFromDisk() {
+        Path stateFile = properties.getStateFile();
+        if (!Files.isRegularFile(stateFile)) {
+            return;
+        }
+        try {
+            expiresAt = computeExpiry(stateFile, Files.getLastModifiedTime(stateFile).toInstant());
+            log.info("Restored WhoScored session from {}, valid until {}", stateFile, expiresAt);
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable session state {}: {}", stateFile, e.getMessage());
+        }
+    }
+
+    private Instant computeExpiry(Path stateFile, Instant savedAt) throws IOException {
+        Instant expiry = savedAt.plus(properties.getMaxAge());
+        JsonNode cookies = objectMapper.readTree(stateFile.toFile()).path("cookies");
+        for (JsonNode cookie : cookies) {
+            // Playwright stores expiry in epoch seconds, -1 for session cookies
+            double cookieExpiry = cookie.path("expires").asDouble(-1);
+            if (CLEARANCE_COOKIE.equals(cookie.path("name").asText()) && cookieExpiry > 0) {
+                Instant clearanceExpiry = Instant.ofEpochMilli((long) (cookieExpiry * 1000));
+                if (clearanceExpiry.isBefore(expiry)) {
+                    expiry = clearanceExpiry;
+                }
+            }
+        }
+        return expiry;
+    }
+}
@@ -0,0 +1,56 @@
+package com.dapp.whoscored_scrapper.service.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.config.SessionProperties;
+import com.dapp.whoscored_scrapper.service.AbstractWebService;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeAdmissionController;
+import com.dapp.whoscored_scrapper.service.browser.BrowserLease;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPool;
+import com.dapp.whoscored_scrapper.service.metrics.ScrapeMetrics;
+import com.dapp.whoscored_scrapper.service.readiness.PageReadiness;
+import com.dapp.whoscored_scrapper.service.selector.SelectorStrategyRegistry;
+
+// Pays the Cloudflare + cookie banner cost in the background so API requests start from a cleared session
+@Service
+public class SessionWarmupService extends AbstractWebService {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionWarmupService.class);
+
+    private final SessionProperties properties;
+    private final ScrapeAdmissionController admission;
+
+    public SessionWarmupService(BrowserPool browserPool, SessionStateStore sessionStore, PageReadiness readiness,
+            ScrapeMetrics metrics, SelectorStrategyRegistry selectors, SessionProperties properties,
+            ScrapeAdmissionController admission) {
+        super(browserPool, sessionStore, readiness, metrics, selectors);
+        this.properties = properties;
+        this.admission = admission;
+    }
+
+    @Scheduled(fixedDelayString = "${scraper.session.refresh-check-interval:PT5M}")
+    public void refreshIfNeeded() {
+        if (!properties.isWarmUpEnabled() || !sessionStore.needsRefresh()) {
+            return;
+        }
+        log.info("WhoScored session expires at {}, warming up a new one", sessionStore.expiresAt());
+        warmUp();
+    }
+
+    public void warmUp() {
+        try {
+            // Takes a scrape slot like any lookup, so a warm-up never competes with requests for a browser
+            admission.admitBlocking(() -> {
+                // Always start from a clean context: reusing the old state would not renew cf_clearance
+                try (BrowserLease lease = browserPool.acquire()) {
+                    return metrics.operation("session_warmup", () -> createPage(lease));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Session warm-up failed: {}", e.getMessage());
+        }
+    }
+}
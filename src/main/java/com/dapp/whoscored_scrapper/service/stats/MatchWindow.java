@@ -0,0 +1,59 @@
+package com.dapp.whoscored_scrapper.service.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.dapp.whoscored_scrapper.model.dto.PlayerFormDTO;
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.service.persistence.SquadPersistenceService;
+
+// Sums and averages over a list of stored matches, on the primitive columns
+final class MatchWindow {
+
+    private MatchWindow() {
+    }
+
+    static PlayerFormDTO summarize(String name, String team, List<PlayerMatchStat> matches) {
+        int minutes = 0;
+        int goals = 0;
+        int assists = 0;
+        double ratingSum = 0;
+        int rated = 0;
+        double passSum = 0;
+        int passCount = 0;
+        LocalDate from = null;
+        LocalDate to = null;
+        for (PlayerMatchStat match : matches) {
+            minutes += match.getMinsPlayed();
+            goals += match.getGoals();
+            assists += match.getAssists();
+            if (match.getRating() != null) {
+                ratingSum += match.getRating();
+                rated++;
+            }
+            if (match.getPassSuccess() > 0) {
+                passSum += match.getPassSuccess();
+                passCount++;
+            }
+            LocalDate date = match.getMatchDate();
+            if (date != null) {
+                from = from == null || date.isBefore(from) ? date : from;
+                to = to == null || date.isAfter(to) ? date : to;
+            }
+        }
+        return PlayerFormDTO.builder()
+                .name(name)
+                .team(team)
+                .matches(matches.size())
+                .minutes(minutes)
+                .goals(goals)
+                .assists(assists)
+                .avgRating(rated == 0 ? null : ratingSum / rated)
+                .goalsPer90(SquadPersistenceService.per90(goals, minutes))
+                .assistsPer90(SquadPersistenceService.per90(assists, minutes))
+                .avgPassSuccess(passCount == 0 ? null : passSum / passCount)
+                .from(from)
+                .to(to)
+                .build();
+    }
+}
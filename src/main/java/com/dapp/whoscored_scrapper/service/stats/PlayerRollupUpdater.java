@@ -0,0 +1,56 @@
+package com.dapp.whoscored_scrapper.service.stats;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.StatsProperties;
+import com.dapp.whoscored_scrapper.model.dto.PlayerFormDTO;
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.model.entity.PlayerStatsRollup;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+import com.dapp.whoscored_scrapper.repository.PlayerMatchStatRepository;
+import com.dapp.whoscored_scrapper.repository.PlayerStatsRollupRepository;
+
+// Recomputes a tracked player's rollup row; runs inside the sync transaction that changed the matches
+@Component
+public class PlayerRollupUpdater {
+
+    private final PlayerMatchStatRepository matchStatRepository;
+    private final PlayerStatsRollupRepository rollupRepository;
+    private final StatsProperties properties;
+
+    public PlayerRollupUpdater(PlayerMatchStatRepository matchStatRepository, PlayerStatsRollupRepository rollupRepository,
+            StatsProperties properties) {
+        this.matchStatRepository = matchStatRepository;
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(TrackedPlayer player) {
+        List<PlayerMatchStat> matches = matchStatRepository.findByPlayerOrderByMatchDateDescIdDesc(player);
+        PlayerFormDTO season = MatchWindow.summarize(player.getName(), player.getCurrentTeam(), matches);
+        PlayerFormDTO form = MatchWindow.summarize(player.getName(), player.getCurrentTeam(),
+                matches.subList(0, Math.min(properties.getFormMatches(), matches.size())));
+
+        PlayerStatsRollup rollup = rollupRepository.findByPlayer(player).orElseGet(PlayerStatsRollup::new);
+        rollup.setPlayer(player);
+        rollup.setMatches(season.getMatches());
+        rollup.setMinutes(season.getMinutes());
+        rollup.setGoals(season.getGoals());
+        rollup.setAssists(season.getAssists());
+        rollup.setAvgRating(season.getAvgRating());
+        rollup.setGoalsPer90(season.getGoalsPer90());
+        rollup.setAssistsPer90(season.getAssistsPer90());
+        rollup.setFormMatches(form.getMatches());
+        rollup.setFormRating(form.getAvgRating());
+        rollup.setFormGoalsPer90(form.getGoalsPer90());
+        rollup.setLastMatchDate(season.getTo());
+        rollup.setUpdatedAt(Instant.now());
+        rollupRepository.save(rollup);
+    }
+}
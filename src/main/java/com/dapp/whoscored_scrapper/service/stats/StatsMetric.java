@@ -0,0 +1,29 @@
+package com.dapp.whoscored_scrapper.service.stats;
+
+// Sortable figures of the leaderboards, with the property each one sorts on (null: not available there)
+public enum StatsMetric {
+    RATING("rating", "avgRating"),
+    FORM_RATING(null, "formRating"),
+    GOALS("goals", "goals"),
+    ASSISTS("assists", "assists"),
+    GOALS_PER_90("goalsPer90", "goalsPer90"),
+    ASSISTS_PER_90("assistsPer90", "assistsPer90"),
+    MINUTES("minsPlayed", "minutes"),
+    PASS_SUCCESS("passSuccess", null);
+
+    private final String squadProperty;
+    private final String rollupProperty;
+
+    StatsMetric(String squadProperty, String rollupProperty) {
+        this.squadProperty = squadProperty;
+        this.rollupProperty = rollupProperty;
+    }
+
+    public String getSquadProperty() {
+        return squadProperty;
+    }
+
+    public String getRollupProperty() {
+        return rollupProperty;
+    }
+}
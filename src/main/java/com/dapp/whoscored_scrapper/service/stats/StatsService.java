@@ -0,0 +1,131 @@
+package com.dapp.whoscored_scrapper.service.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.StatsProperties;
+import com.dapp.whoscored_scrapper.model.dto.LeaderboardEntryDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerFormDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamStatsDTO;
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.model.entity.PlayerStatsRollup;
+import com.dapp.whoscored_scrapper.model.entity.SquadPlayerStats;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+import com.dapp.whoscored_scrapper.repository.PlayerMatchStatRepository;
+import com.dapp.whoscored_scrapper.repository.PlayerStatsRollupRepository;
+import com.dapp.whoscored_scrapper.repository.SquadPlayerStatsRepository;
+import com.dapp.whoscored_scrapper.repository.TrackedPlayerRepository;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+
+// Aggregations over what is already stored: never scrapes, so every answer is a local query
+@Service
+@Transactional(readOnly = true)
+public class StatsService {
+
+    private final SquadPlayerStatsRepository squadStatsRepository;
+    private final PlayerStatsRollupRepository rollupRepository;
+    private final PlayerMatchStatRepository matchStatRepository;
+    private final TrackedPlayerRepository trackedPlayerRepository;
+    private final StatsProperties properties;
+
+    public StatsService(SquadPlayerStatsRepository squadStatsRepository, PlayerStatsRollupRepository rollupRepository,
+            PlayerMatchStatRepository matchStatRepository, TrackedPlayerRepository trackedPlayerRepository,
+            StatsProperties properties) {
+        this.squadStatsRepository = squadStatsRepository;
+        this.rollupRepository = rollupRepository;
+        this.matchStatRepository = matchStatRepository;
+        this.trackedPlayerRepository = trackedPlayerRepository;
+        this.properties = properties;
+    }
+
+    // Rolling averages over the latest `lastMatches` stored matches of a tracked player, optionally since a date
+    public PlayerFormDTO playerForm(String playerName, int lastMatches, LocalDate since) {
+        TrackedPlayer player = trackedPlayerRepository.findByLookupKey(NameNormalizer.normalize(playerName))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Player '" + playerName + "' is not tracked, add it with POST /api/trackedPlayers first"));
+        Pageable window = PageRequest.of(0, clamp(lastMatches, properties.getMaxWindow()));
+        List<PlayerMatchStat> matches = since == null
+                ? matchStatRepository.findByPlayerOrderByMatchDateDescIdDesc(player, window)
+                : matchStatRepository.findByPlayerAndMatchDateGreaterThanEqualOrderByMatchDateDescIdDesc(player, since, window);
+        return MatchWindow.summarize(player.getName(), player.getCurrentTeam(), matches);
+    }
+
+    // Season figures of every stored squad player
+    public Page<LeaderboardEntryDTO> squadLeaderboard(StatsMetric metric, String teamName, String position,
+            int minMinutes, int page, int size, Sort.Direction direction) {
+        if (metric.getSquadProperty() == null) {
+            throw new IllegalArgumentException(metric + " is only available on the tracked players leaderboard");
+        }
+        Pageable pageable = pageable(page, size, direction, metric.getSquadProperty());
+        Page<SquadPlayerStats> rows = squadStatsRepository.leaderboard(
+                teamName == null ? null : NameNormalizer.normalize(teamName),
+                position == null ? null : position.trim().toLowerCase(Locale.ROOT),
+                minMinutes, pageable);
+        AtomicLong rank = new AtomicLong(pageable.getOffset());
+        return rows.map(row -> LeaderboardEntryDTO.builder()
+                .rank(rank.incrementAndGet())
+                .name(row.getPlayer().getName())
+                .team(row.getTeam().getName())
+                .position(row.getPlayer().getPosition())
+                .appearances(row.getAppearances() + row.getSubAppearances())
+                .minutes(row.getMinsPlayed())
+                .goals(row.getGoals())
+                .assists(row.getAssists())
+                .goalsPer90(row.getGoalsPer90())
+                .assistsPer90(row.getAssistsPer90())
+                .rating(row.getRating())
+                .passSuccess(row.getPassSuccess())
+                .build());
+    }
+
+    // Precomputed rollups of the tracked players
+    public Page<LeaderboardEntryDTO> trackedLeaderboard(StatsMetric metric, String teamName, int minMinutes,
+            int page, int size, Sort.Direction direction) {
+        if (metric.getRollupProperty() == null) {
+            throw new IllegalArgumentException(metric + " is only available on the squad leaderboard");
+        }
+        Pageable pageable = pageable(page, size, direction, metric.getRollupProperty());
+        Page<PlayerStatsRollup> rows = rollupRepository.leaderboard(
+                teamName == null ? null : NameNormalizer.normalize(teamName), minMinutes, pageable);
+        AtomicLong rank = new AtomicLong(pageable.getOffset());
+        return rows.map(row -> LeaderboardEntryDTO.builder()
+                .rank(rank.incrementAndGet())
+                .name(row.getPlayer().getName())
+                .team(row.getPlayer().getCurrentTeam())
+                .position(row.getPlayer().getPositions())
+                .appearances(row.getMatches())
+                .minutes(row.getMinutes())
+                .goals(row.getGoals())
+                .assists(row.getAssists())
+                .goalsPer90(row.getGoalsPer90())
+                .assistsPer90(row.getAssistsPer90())
+                .rating(row.getAvgRating())
+                .formRating(row.getFormRating())
+                .build());
+    }
+
+    public TeamStatsDTO teamTotals(String teamName) {
+        return squadStatsRepository.teamTotals(NameNormalizer.normalize(teamName))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Team '" + teamName + "' has not been scraped yet, look it up with /api/teamInfo first"));
+    }
+
+    private Pageable pageable(int page, int size, Sort.Direction direction, String property) {
+        // Ties are broken by id so pages are stable
+        return PageRequest.of(Math.max(0, page), clamp(size, properties.getMaxPageSize()),
+                Sort.by(new Sort.Order(direction, property).nullsLast(), Sort.Order.asc("id")));
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(1, Math.min(value, max));
+    }
+}
@@ -0,0 +1,117 @@
+package com.dapp.whoscored_scrapper.service.tracking;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dapp.whoscored_scrapper.config.TrackingProperties;
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.TrackedPlayerDTO;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+import com.dapp.whoscored_scrapper.service.PlayerService;
+import com.dapp.whoscored_scrapper.service.PlayerStream;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeAdmissionController;
+import com.dapp.whoscored_scrapper.service.admission.ScrapeCapacityExceededException;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPoolExhaustedException;
+import com.dapp.whoscored_scrapper.service.cache.ContentVersion;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+
+// Keeps tracked players' match stats in H2 and refreshes them in the background, more often right after
+// a match; API reads for a tracked player never wait on WhoScored
+@Service
+public class TrackedPlayerService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackedPlayerService.class);
+
+    private final TrackedPlayerStore store;
+    private final PlayerService playerService;
+    private final ScrapeAdmissionController admission;
+    private final TrackingProperties properties;
+
+    public TrackedPlayerService(TrackedPlayerStore store, PlayerService playerService,
+            ScrapeAdmissionController admission, TrackingProperties properties) {
+        this.store = store;
+        this.playerService = playerService;
+        this.admission = admission;
+        this.properties = properties;
+    }
+
+    public Optional<PlayerDTO> findStored(String playerName) {
+        return store.load(NameNormalizer.normalize(playerName));
+    }
+
+    public Optional<ContentVersion> storedVersion(String playerName) {
+        return store.version(NameNormalizer.normalize(playerName));
+    }
+
+    // Rows are read from H2 page by page while the stream is consumed, never all at once
+    public Optional<PlayerStream> streamStored(String playerName, LocalDate since, int limit) {
+        String lookupKey = NameNormalizer.normalize(playerName);
+        return store.loadProfile(lookupKey)
+                .map(profile -> new PlayerStream(profile, sink -> store.forEachMatch(lookupKey, since, limit, sink)));
+    }
+
+    // Starts tracking and runs the first sync right away, so the response already comes from the store
+    public PlayerDTO track(String playerName) {
+        String lookupKey = NameNormalizer.normalize(playerName);
+        if (lookupKey.isEmpty()) {
+            throw new IllegalArgumentException("playerName is required");
+        }
+        TrackedPlayer player = store.create(lookupKey, playerName.trim());
+        if (player.getLastSyncedAt() == null) {
+            sync(player, true);
+        }
+        return store.load(lookupKey).orElseThrow();
+    }
+
+    public boolean untrack(String playerName) {
+        return store.delete(NameNormalizer.normalize(playerName));
+    }
+
+    public List<TrackedPlayerDTO> list() {
+        return store.list();
+    }
+
+    @Scheduled(fixedDelayString = "${scraper.tracking.check-interval:PT5M}")
+    public void refreshDue() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        // Background work: waits for a scrape slot instead of taking the 429/503 meant for API callers
+        admission.background(() -> {
+            for (TrackedPlayer player : store.due(Instant.now())) {
+                try {
+                    sync(player, false);
+                } catch (RuntimeException e) {
+                    // Already recorded on the player, the rest of the batch still runs
+                }
+            }
+            return null;
+        });
+    }
+
+    private void sync(TrackedPlayer player, boolean firstSync) {
+        try {
+            // The display name as the user typed it: WhoScored's search does not know the normalized key
+            PlayerDTO scraped = admission.admit(() -> playerService.getPlayerInfoByName(player.getName()));
+            store.applySync(player.getId(), scraped);
+        } catch (RuntimeException e) {
+            log.warn("Sync of tracked player '{}' failed: {}", player.getName(), e.getMessage());
+            if (firstSync && e instanceof IllegalArgumentException) {
+                // Not found on WhoScored and nothing stored yet: drop it so a typo does not stay tracked.
+                // Capacity rejections, pool exhaustion and timeouts keep it; the background refresh retries.
+                store.delete(player.getLookupKey());
+            } else if (!(e instanceof ScrapeCapacityExceededException || e instanceof BrowserPoolExhaustedException)) {
+                // Backs off; a busy scraper is not a failing player, so those leave the player due as it was
+                store.recordFailure(player.getId(), e.getMessage());
+            }
+            throw e;
+        }
+    }
+}
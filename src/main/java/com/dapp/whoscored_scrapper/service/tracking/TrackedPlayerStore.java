@@ -0,0 +1,331 @@
+package com.dapp.whoscored_scrapper.service.tracking;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dapp.whoscored_scrapper.config.TrackingProperties;
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.dto.TrackedPlayerDTO;
+import com.dapp.whoscored_scrapper.model.entity.PlayerMatchStat;
+import com.dapp.whoscored_scrapper.model.entity.TrackedPlayer;
+import com.dapp.whoscored_scrapper.repository.PlayerMatchStatRepository;
+import com.dapp.whoscored_scrapper.repository.PlayerStatsRollupRepository;
+import com.dapp.whoscored_scrapper.repository.TrackedPlayerRepository;
+import com.dapp.whoscored_scrapper.service.AbstractWebService;
+import com.dapp.whoscored_scrapper.service.PlayerStream;
+import com.dapp.whoscored_scrapper.service.cache.ContentHasher;
+import com.dapp.whoscored_scrapper.service.cache.ContentVersion;
+import com.dapp.whoscored_scrapper.service.stats.PlayerRollupUpdater;
+import com.dapp.whoscored_scrapper.utils.NameNormalizer;
+import com.dapp.whoscored_scrapper.utils.StatParsers;
+
+// Transactional side of player tracking: diffing scraped rows against the stored ones and scheduling the next sync
+@Component
+public class TrackedPlayerStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackedPlayerStore.class);
+    private static final int MATCH_PAGE_SIZE = 200;
+
+    private final TrackedPlayerRepository playerRepository;
+    private final PlayerMatchStatRepository matchStatRepository;
+    private final PlayerStatsRollupRepository rollupRepository;
+    private final PlayerRollupUpdater rollupUpdater;
+    private final TrackingProperties properties;
+    private final ContentHasher contentHasher;
+
+    public TrackedPlayerStore(TrackedPlayerRepository playerRepository, PlayerMatchStatRepository matchStatRepository,
+            PlayerStatsRollupRepository rollupRepository, PlayerRollupUpdater rollupUpdater, TrackingProperties properties,
+            ContentHasher contentHasher) {
+        this.playerRepository = playerRepository;
+        this.matchStatRepository = matchStatRepository;
+        this.rollupRepository = rollupRepository;
+        this.rollupUpdater = rollupUpdater;
+        this.properties = properties;
+        this.contentHasher = contentHasher;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TrackedPlayer> find(String lookupKey) {
+        return playerRepository.findByLookupKey(lookupKey);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrackedPlayer> due(Instant now) {
+        return playerRepository.findByNextSyncAtLessThanEqualOrderByNextSyncAt(now, PageRequest.of(0, properties.getBatchSize()));
+    }
+
+    // Only synced players are served from the store; a player whose first sync failed still goes to WhoScored
+    @Transactional(readOnly = true)
+    public Optional<PlayerDTO> load(String lookupKey) {
+        return playerRepository.findByLookupKey(lookupKey)
+                .filter(player -> player.getLastSyncedAt() != null)
+                .map(this::toPlayer);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ContentVersion> version(String lookupKey) {
+        return playerRepository.findByLookupKey(lookupKey)
+                .filter(player -> player.getLastSyncedAt() != null && player.getContentEtag() != null)
+                .map(player -> new ContentVersion(player.getContentEtag(), player.getContentChangedAt()));
+    }
+
+    // Profile without match stats, for callers that read the rows page by page
+    @Transactional(readOnly = true)
+    public Optional<PlayerDTO> loadProfile(String lookupKey) {
+        return playerRepository.findByLookupKey(lookupKey)
+                .filter(player -> player.getLastSyncedAt() != null)
+                .map(TrackedPlayerStore::toProfile);
+    }
+
+    // Newest first, at most limit rows (0 = all) from since on (null = all), one page in memory at a time.
+    // Not transactional on purpose: a slow client must not hold a connection, each page is its own query.
+    public void forEachMatch(String lookupKey, LocalDate since, int limit, PlayerStream.MatchSink sink) throws Exception {
+        Optional<TrackedPlayer> player = playerRepository.findByLookupKey(lookupKey);
+        if (player.isEmpty()) {
+            return;
+        }
+        int written = 0;
+        for (int pageNumber = 0; ; pageNumber++) {
+            PageRequest page = PageRequest.of(pageNumber, MATCH_PAGE_SIZE);
+            List<PlayerMatchStat> rows = since == null
+                    ? matchStatRepository.findByPlayerOrderByMatchDateDescIdDesc(player.get(), page)
+                    : matchStatRepository.findByPlayerAndMatchDateGreaterThanEqualOrderByMatchDateDescIdDesc(player.get(), since, page);
+            for (PlayerMatchStat row : rows) {
+                if (limit > 0 && written == limit) {
+                    return;
+                }
+                sink.accept(toDto(row));
+                written++;
+            }
+            if (rows.size() < MATCH_PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrackedPlayerDTO> list() {
+        Map<Long, Long> matchCounts = new HashMap<>();
+        for (Object[] row : matchStatRepository.countPerPlayer()) {
+            matchCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return playerRepository.findAllByOrderByName().stream()
+                .map(player -> TrackedPlayerDTO.builder()
+                        .name(player.getName())
+                        .currentTeam(player.getCurrentTeam())
+                        .lastMatchDate(player.getLastMatchDate())
+                        .lastSyncedAt(player.getLastSyncedAt())
+                        .nextSyncAt(player.getNextSyncAt())
+                        .storedMatches(matchCounts.getOrDefault(player.getId(), 0L).intValue())
+                        .lastError(player.getLastError())
+                        .build())
+                .toList();
+    }
+
+    @Transactional
+    public TrackedPlayer create(String lookupKey, String name) {
+        return playerRepository.findByLookupKey(lookupKey).orElseGet(() -> {
+            TrackedPlayer player = new TrackedPlayer();
+            player.setLookupKey(lookupKey);
+            player.setName(name);
+            player.setCreatedAt(Instant.now());
+            player.setNextSyncAt(Instant.now());
+            return playerRepository.save(player);
+        });
+    }
+
+    @Transactional
+    public boolean delete(String lookupKey) {
+        Optional<TrackedPlayer> player = playerRepository.findByLookupKey(lookupKey);
+        player.ifPresent(tracked -> {
+            rollupRepository.deleteByPlayer(tracked);
+            matchStatRepository.deleteByPlayer(tracked);
+            playerRepository.delete(tracked);
+        });
+        return player.isPresent();
+    }
+
+    // Upserts only the rows that are new or whose stats changed; returns how many were written
+    @Transactional
+    public int applySync(Long playerId, PlayerDTO scraped) {
+        TrackedPlayer player = playerRepository.findById(playerId).orElseThrow();
+        Instant now = Instant.now();
+        player.setName(AbstractWebService.NOT_FOUND.equals(scraped.getName()) ? player.getName() : scraped.getName());
+        player.setShirtNumber(scraped.getShirtNumber());
+        player.setAge(scraped.getAge());
+        player.setHeight(scraped.getHeight());
+        player.setPositions(scraped.getPositions());
+        player.setNationality(scraped.getNationality());
+        player.setCurrentTeam(scraped.getCurrentTeam());
+        player.setCurrentTeamKey(NameNormalizer.normalize(scraped.getCurrentTeam()));
+
+        Map<String, PlayerMatchStat> stored = matchStatRepository.findByPlayer(player).stream()
+                .collect(Collectors.toMap(row -> key(row.getMatchDateText(), row.getOpponent()), Function.identity()));
+
+        int inserted = 0;
+        int updated = 0;
+        List<PlayerMatchStatsDTO> rows = scraped.getMatchStats() == null ? List.of() : scraped.getMatchStats();
+        for (PlayerMatchStatsDTO row : rows) {
+            if (isBlank(row.getDate()) || isBlank(row.getOpponent())) {
+                continue;
+            }
+            String hash = hash(row);
+            PlayerMatchStat existing = stored.get(key(row.getDate(), row.getOpponent()));
+            if (existing == null) {
+                PlayerMatchStat created = new PlayerMatchStat();
+                created.setPlayer(player);
+                created.setMatchDateText(row.getDate());
+                created.setOpponent(row.getOpponent());
+                copy(row, created, hash, now);
+                matchStatRepository.save(created);
+                stored.put(key(row.getDate(), row.getOpponent()), created);
+                inserted++;
+            } else if (!existing.getRowHash().equals(hash)) {
+                copy(row, existing, hash, now);
+                updated++;
+            }
+        }
+
+        player.setLastMatchDate(stored.values().stream()
+                .map(PlayerMatchStat::getMatchDate)
+                .filter(date -> date != null)
+                .max(LocalDate::compareTo)
+                .orElse(null));
+        player.setLastSyncedAt(now);
+        player.setNextSyncAt(now.plus(interval(player.getLastMatchDate(), now)));
+        player.setConsecutiveFailures(0);
+        player.setLastError(null);
+        rollupUpdater.refresh(player);
+        // Hashed as load() will serve it, so the ETag only changes when the response does
+        String etag = contentHasher.etag(toPlayer(player));
+        if (!etag.equals(player.getContentEtag())) {
+            player.setContentEtag(etag);
+            player.setContentChangedAt(now);
+        }
+        log.info("Synced player '{}': {} new, {} changed, {} unchanged rows; next sync at {}",
+                player.getName(), inserted, updated, rows.size() - inserted - updated, player.getNextSyncAt());
+        return inserted + updated;
+    }
+
+    @Transactional
+    public void recordFailure(Long playerId, String error) {
+        playerRepository.findById(playerId).ifPresent(player -> {
+            int failures = player.getConsecutiveFailures() + 1;
+            Duration backoff = properties.getFailureBackoff().multipliedBy(1L << Math.min(failures - 1, 10));
+            if (backoff.compareTo(properties.getDormantInterval()) > 0) {
+                backoff = properties.getDormantInterval();
+            }
+            player.setConsecutiveFailures(failures);
+            player.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 1024)));
+            player.setNextSyncAt(Instant.now().plus(backoff));
+        });
+    }
+
+    // The closer the last match, the more likely there is a new one (or a revised rating) to pick up
+    Duration interval(LocalDate lastMatchDate, Instant now) {
+        if (lastMatchDate == null) {
+            return properties.getDormantInterval();
+        }
+        Duration sinceLastMatch = Duration.between(lastMatchDate.atStartOfDay(ZoneOffset.UTC).toInstant(), now);
+        if (sinceLastMatch.compareTo(properties.getRecentMatchWindow()) <= 0) {
+            return properties.getRecentInterval();
+        }
+        if (sinceLastMatch.compareTo(properties.getActiveWindow()) <= 0) {
+            return properties.getActiveInterval();
+        }
+        return properties.getDormantInterval();
+    }
+
+    private static void copy(PlayerMatchStatsDTO row, PlayerMatchStat target, String hash, Instant now) {
+        target.setMatchDate(StatParsers.parseMatchDate(row.getDate()));
+        target.setScore(row.getScore());
+        target.setPosition(row.getPosition());
+        target.setMinsPlayed(intOrZero(row.getMinsPlayed()));
+        target.setGoals(intOrZero(row.getGoals()));
+        target.setAssists(intOrZero(row.getAssists()));
+        target.setYellowCards(intOrZero(row.getYellowCards()));
+        target.setRedCards(intOrZero(row.getRedCards()));
+        target.setShots(intOrZero(row.getShots()));
+        Double passSuccess = StatParsers.parseDouble(row.getPassSuccess());
+        target.setPassSuccess(passSuccess == null ? 0 : passSuccess);
+        target.setAerialsWon(intOrZero(row.getAerialsWon()));
+        target.setRating(StatParsers.parseRating(row.getRating()));
+        target.setRowHash(hash);
+        target.setUpdatedAt(now);
+    }
+
+    private PlayerDTO toPlayer(TrackedPlayer player) {
+        PlayerDTO dto = toProfile(player);
+        dto.setMatchStats(matchStatRepository.findByPlayerOrderByMatchDateDescIdDesc(player).stream()
+                .map(TrackedPlayerStore::toDto)
+                .toList());
+        return dto;
+    }
+
+    private static PlayerDTO toProfile(TrackedPlayer player) {
+        PlayerDTO dto = new PlayerDTO();
+        dto.setName(player.getName());
+        dto.setShirtNumber(player.getShirtNumber());
+        dto.setAge(player.getAge());
+        dto.setHeight(player.getHeight());
+        dto.setPositions(player.getPositions());
+        dto.setNationality(player.getNationality());
+        dto.setCurrentTeam(player.getCurrentTeam());
+        return dto;
+    }
+
+    private static PlayerMatchStatsDTO toDto(PlayerMatchStat row) {
+        return PlayerMatchStatsDTO.builder()
+                .opponent(row.getOpponent())
+                .score(row.getScore())
+                .date(row.getMatchDateText())
+                .position(row.getPosition())
+                .minsPlayed(StatParsers.format(row.getMinsPlayed(), 0))
+                .goals(StatParsers.format(row.getGoals(), 0))
+                .assists(StatParsers.format(row.getAssists(), 0))
+                .yellowCards(StatParsers.format(row.getYellowCards(), 0))
+                .redCards(StatParsers.format(row.getRedCards(), 0))
+                .shots(StatParsers.format(row.getShots(), 0))
+                .passSuccess(StatParsers.format(row.getPassSuccess(), 1))
+                .aerialsWon(StatParsers.format(row.getAerialsWon(), 0))
+                .rating(StatParsers.format(row.getRating(), 2))
+                .build();
+    }
+
+    // Every stat of a match row except its date and opponent, which are the row key: an unchanged hash skips the write
+    private String hash(PlayerMatchStatsDTO row) {
+        String joined = String.join("|", String.valueOf(row.getScore()), String.valueOf(row.getPosition()),
+                String.valueOf(row.getMinsPlayed()), String.valueOf(row.getGoals()), String.valueOf(row.getAssists()),
+                String.valueOf(row.getYellowCards()), String.valueOf(row.getRedCards()), String.valueOf(row.getShots()),
+                String.valueOf(row.getPassSuccess()), String.valueOf(row.getAerialsWon()), String.valueOf(row.getRating()));
+        return contentHasher.hash(joined);
+    }
+
+    private static int intOrZero(String text) {
+        Integer value = StatParsers.parseInt(text);
+        return value == null ? 0 : value;
+    }
+
+    private static String key(String date, String opponent) {
+        return date + "|" + opponent;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank() || AbstractWebService.NOT_FOUND.equals(value);
+    }
+}
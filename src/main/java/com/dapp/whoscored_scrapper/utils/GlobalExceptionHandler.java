@@ -1,5 +1,9 @@
 package com.dapp.whoscored_scrapper.utils;
 
+import com.dapp.whoscored_scrapper.service.admission.ScrapeCapacityExceededException;
+import com.dapp.whoscored_scrapper.service.browser.BrowserPoolExhaustedException;
+import com.dapp.whoscored_scrapper.service.job.JobQueueFullException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -14,6 +18,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    @ExceptionHandler(BrowserPoolExhaustedException.class)
+    public ResponseEntity<String> handleBrowserPoolExhausted(BrowserPoolExhaustedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(ScrapeCapacityExceededException.class)
+    public ResponseEntity<String> handleScrapeCapacityExceeded(ScrapeCapacityExceededException ex) {
+        return ResponseEntity.status(ex.isQueueFull() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<String> handleJobQueueFull(JobQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<String> handleBadCredentials(BadCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid credentials");
@@ -0,0 +1,19 @@
+package com.dapp.whoscored_scrapper.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    // "  Atlético  Madrid " -> "atletico madrid", so equivalent searches share one key
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String withoutAccents = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return withoutAccents.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
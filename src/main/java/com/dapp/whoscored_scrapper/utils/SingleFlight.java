@@ -0,0 +1,72 @@
+package com.dapp.whoscored_scrapper.utils;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Concurrent calls with the same key share one execution: the first caller runs it, the rest wait
+// for its result or its exception. The key is forgotten as soon as the call finishes, so this never caches.
+public class SingleFlight<V> {
+
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executions;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executions = Counter.builder("whoscored.singleflight.calls").tag("name", name).tag("result", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("whoscored.singleflight.calls").tag("name", name).tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public V execute(String key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public double coalescedCount() {
+        return coalesced.count();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            // Followers see the same exception the leader got, so the exception handler maps it the same way
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.dapp.whoscored_scrapper.utils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Parses the texts WhoScored shows in its tables. "-" means zero, anything unreadable ("Not found", "") is null.
+public final class StatParsers {
+
+    private static final Pattern LEADING_NUMBER = Pattern.compile("-?\\d+(?:[.,]\\d+)?");
+    // "23(4)": 23 starts, 4 appearances off the bench
+    private static final Pattern APPEARANCES = Pattern.compile("^\\s*(\\d+)\\s*(?:\\((\\d+)\\))?");
+
+    private static final DateTimeFormatter MATCH_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private StatParsers() {
+    }
+
+    public static Integer parseInt(String text) {
+        Double value = parseDouble(text);
+        return value == null ? null : (int) Math.round(value);
+    }
+
+    // "85.3", "85,3%", "180cm" -> the first number in the text
+    public static Double parseDouble(String text) {
+        if (text == null) {
+            return null;
+        }
+        String trimmed = text.trim();
+        if (trimmed.equals("-")) {
+            return 0.0;
+        }
+        Matcher matcher = LEADING_NUMBER.matcher(trimmed);
+        if (!matcher.find()) {
+            return null;
+        }
+        return Double.parseDouble(matcher.group().replace(',', '.'));
+    }
+
+    // A rating of "-" means the player was not rated, not a zero
+    public static Double parseRating(String text) {
+        return text == null || text.trim().equals("-") ? null : parseDouble(text);
+    }
+
+    // Back to the table's own format: zero shows as "-"
+    public static String format(Number value, int decimals) {
+        if (value == null) {
+            return "-";
+        }
+        double number = value.doubleValue();
+        if (number == 0) {
+            return "-";
+        }
+        return decimals == 0 ? String.valueOf(Math.round(number)) : String.format(Locale.ROOT, "%." + decimals + "f", number);
+    }
+
+    public static Integer starts(String apps) {
+        Matcher matcher = apps == null ? null : APPEARANCES.matcher(apps);
+        return matcher != null && matcher.find() ? Integer.valueOf(matcher.group(1)) : parseInt(apps);
+    }
+
+    public static Integer substituteAppearances(String apps) {
+        Matcher matcher = apps == null ? null : APPEARANCES.matcher(apps);
+        if (matcher == null || !matcher.find()) {
+            return null;
+        }
+        return matcher.group(2) == null ? 0 : Integer.valueOf(matcher.group(2));
+    }
+
+    // Match dates as the match statistics table shows them, "21-09-2025"
+    public static LocalDate parseMatchDate(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text.trim(), MATCH_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.dapp.whoscored_scrapper.service.BulkLookupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Streams bulk lookups as NDJSON: one BulkItemDTO per line, flushed as soon as each lookup finishes
+final class BulkResponses {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private BulkResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> ndjson(BulkLookupService bulkLookupService, ObjectMapper objectMapper,
+            List<String> names, Function<String, ?> lookup) {
+        List<String> unique = bulkLookupService.validate(names);
+        StreamingResponseBody body = out -> {
+            try {
+                bulkLookupService.lookupAll(unique, lookup, item -> {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                    out.flush();
+                });
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+}
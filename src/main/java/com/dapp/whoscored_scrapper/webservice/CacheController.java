@@ -0,0 +1,64 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.util.Map;
+
+import com.dapp.whoscored_scrapper.service.CachedScrapeService;
+import com.dapp.whoscored_scrapper.service.cache.ScrapeCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "Endpoints to inspect and invalidate cached scrapes. Invalidation requires the ADMIN role (HTTP Basic).")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CachedScrapeService cachedScrapeService;
+    private final ScrapeCache scrapeCache;
+
+    @Operation(summary = "In-memory cache statistics", description = "Hits, misses and evictions of the in-memory tier, and lookups that joined an in-flight scrape.")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        CacheStats stats = scrapeCache.memoryStats();
+        return ResponseEntity.ok(Map.of(
+                "size", scrapeCache.memorySize(),
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictions", stats.evictionCount(),
+                "coalescedLookups", cachedScrapeService.coalescedLookups()));
+    }
+
+    @Operation(summary = "Invalidate a cached team", description = "Next lookup of the team scrapes WhoScored again.")
+    @DeleteMapping("/teams")
+    public ResponseEntity<Void> invalidateTeam(
+            @Parameter(description = "Name of the team.", example = "Real Madrid") @RequestParam("teamName") String teamName) {
+        cachedScrapeService.invalidateTeam(teamName);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Invalidate a cached player", description = "Drops both the profile and the match stats.")
+    @DeleteMapping("/players")
+    public ResponseEntity<Void> invalidatePlayer(
+            @Parameter(description = "Name of the player.", example = "Lionel Messi") @RequestParam("playerName") String playerName) {
+        cachedScrapeService.invalidatePlayer(playerName);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Invalidate the whole cache")
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAll() {
+        cachedScrapeService.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
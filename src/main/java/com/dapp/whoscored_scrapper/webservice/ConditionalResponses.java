@@ -0,0 +1,56 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.dapp.whoscored_scrapper.service.cache.ContentVersion;
+import com.dapp.whoscored_scrapper.service.cache.Versioned;
+
+// Conditional GET over content hashes. A matching If-None-Match is answered with 304 from the stored hash alone,
+// before any lookup; otherwise the ETag and Last-Modified headers let Spring answer If-Modified-Since itself.
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> versioned(String ifNoneMatch, Supplier<Optional<ContentVersion>> known,
+            Supplier<Versioned<T>> lookup) {
+        if (ifNoneMatch != null) {
+            Optional<ContentVersion> version = known.get();
+            if (version.isPresent() && matches(ifNoneMatch, version.get().etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(version.get().etag())
+                        .lastModified(version.get().lastModified())
+                        .build();
+            }
+        }
+        Versioned<T> result = lookup.get();
+        return ResponseEntity.ok()
+                .eTag(result.version().etag())
+                .lastModified(result.version().lastModified())
+                .body(result.value());
+    }
+
+    // If-None-Match: "a", W/"b" or *. Weak comparison, as RFC 9110 requires for If-None-Match
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.dapp.whoscored_scrapper.service.export.DatasetExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Stored datasets as CSV with typed columns. Send Accept-Encoding: gzip for a compressed transfer. These endpoints never scrape WhoScored.")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final DatasetExportService datasetExportService;
+
+    @Operation(summary = "Export stored squads", description = "One row per squad player with season figures; numbers are unquoted and missing values empty.")
+    @GetMapping("/squads.csv")
+    public ResponseEntity<StreamingResponseBody> exportSquads(
+            @Parameter(description = "Only this team; every stored squad when omitted.", example = "Real Madrid") @RequestParam(value = "teamName", required = false) String teamName) {
+        return csv("squads.csv", out -> datasetExportService.writeSquads(teamName, out));
+    }
+
+    @Operation(summary = "Export tracked player matches", description = "One row per stored match of tracked players; numbers are unquoted and missing values empty.")
+    @GetMapping("/matches.csv")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+            @Parameter(description = "Only this tracked player; every tracked player when omitted.", example = "Lionel Messi") @RequestParam(value = "playerName", required = false) String playerName) {
+        return csv("matches.csv", out -> datasetExportService.writeMatches(playerName, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(String fileName, CsvBody body) {
+        StreamingResponseBody stream = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            body.write(writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(stream);
+    }
+
+    @FunctionalInterface
+    private interface CsvBody {
+        void write(Writer out) throws IOException;
+    }
+}
@@ -0,0 +1,63 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.net.URI;
+
+import com.dapp.whoscored_scrapper.model.dto.JobDTO;
+import com.dapp.whoscored_scrapper.model.dto.JobRequestDTO;
+import com.dapp.whoscored_scrapper.model.entity.JobStatus;
+import com.dapp.whoscored_scrapper.model.entity.ScrapeJob;
+import com.dapp.whoscored_scrapper.service.job.ScrapeJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@Tag(name = "Jobs", description = "Asynchronous team and player lookups.")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final ScrapeJobService scrapeJobService;
+
+    @Operation(summary = "Queue a team or player lookup", description = "Returns immediately with the job id. If callbackUrl is set, the finished job is POSTed to it.")
+    @PostMapping
+    public ResponseEntity<JobDTO> submit(@RequestBody JobRequestDTO request) {
+        JobDTO job = scrapeJobService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @Operation(summary = "Get the status of a job")
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDTO> getJob(@Parameter(description = "Job id.") @PathVariable("id") String id) {
+        return scrapeJobService.find(id)
+                .map(job -> ResponseEntity.ok(JobDTO.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get the result of a finished job", description = "Same body as the synchronous endpoint. 202 with the job status while it is still queued or running.")
+    @GetMapping("/{id}/result")
+    public ResponseEntity<?> getResult(@Parameter(description = "Job id.") @PathVariable("id") String id) {
+        ScrapeJob job = scrapeJobService.find(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() == JobStatus.SUCCEEDED) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(job.getResult());
+        }
+        HttpStatus status = job.getStatus() == JobStatus.FAILED ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(JobDTO.from(job));
+    }
+}
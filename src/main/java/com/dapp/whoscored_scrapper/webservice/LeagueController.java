@@ -0,0 +1,31 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import com.dapp.whoscored_scrapper.model.dto.LeagueCrawlDTO;
+import com.dapp.whoscored_scrapper.service.LeagueCrawlerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/leagues")
+@Tag(name = "Leagues", description = "Endpoints for whole-league scrapes.")
+@RequiredArgsConstructor
+public class LeagueController {
+
+    private final LeagueCrawlerService leagueCrawlerService;
+
+    @Operation(summary = "Crawl every team of a tournament", description = "Discovers the teams linked from a WhoScored tournament page and scrapes each squad from the saved session, taking one scrape slot per team so API lookups keep being served during the crawl. Results are cached like /api/teamInfo lookups.")
+    @PostMapping("/crawl")
+    public ResponseEntity<LeagueCrawlDTO> crawl(
+            @Parameter(description = "WhoScored tournament page.", example = "https://es.whoscored.com/Regions/206/Tournaments/4/Espa%C3%B1a-LaLiga") @RequestParam("tournamentUrl") String tournamentUrl,
+            @Parameter(description = "Browser contexts to use at once (capped by scraper.crawler.max-parallelism).") @RequestParam(value = "parallelism", defaultValue = "1") int parallelism) {
+        return ResponseEntity.ok(leagueCrawlerService.crawl(tournamentUrl, parallelism));
+    }
+}
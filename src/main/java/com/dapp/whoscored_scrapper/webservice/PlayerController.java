@@ -1,17 +1,28 @@
 package com.dapp.whoscored_scrapper.webservice;
 
 import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
-import com.dapp.whoscored_scrapper.service.PlayerService;
+import com.dapp.whoscored_scrapper.service.BulkLookupService;
+import com.dapp.whoscored_scrapper.service.CachedScrapeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/searchPlayer")
@@ -19,13 +30,33 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PlayerController {
 
-  private final PlayerService playerService;
+  private final CachedScrapeService cachedScrapeService;
+  private final BulkLookupService bulkLookupService;
+  private final ObjectMapper objectMapper;
 
-  @Operation(summary = "Search and get player information by name", description = "Searches for a player by name on WhoScored and extracts their details. AUTHENTICATION REQUIRED!")
+  @Operation(summary = "Search and get player information by name", description = "Searches for a player by name on WhoScored and extracts their details. Responses carry an ETag; send it back in If-None-Match to get a 304 while the player is unchanged. AUTHENTICATION REQUIRED!")
   @GetMapping("/playerName")
   public ResponseEntity<PlayerDTO> getPlayerInfoByName(
-      @Parameter(description = "Name of the player to search for.", example = "Lionel Messi") @RequestParam("playerName") String playerName) {
-    PlayerDTO player = playerService.getPlayerInfoByName(playerName);
-    return ResponseEntity.ok(player);
+      @Parameter(description = "Name of the player to search for.", example = "Lionel Messi") @RequestParam("playerName") String playerName,
+      @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.versioned(ifNoneMatch,
+        () -> cachedScrapeService.knownPlayerVersion(playerName),
+        () -> cachedScrapeService.getPlayerVersioned(playerName));
+  }
+
+  @Operation(summary = "Stream player information by name", description = "Same document as /playerName, written incrementally: profile fields first, then match stats row by row (newest first). AUTHENTICATION REQUIRED!")
+  @GetMapping("/playerName/stream")
+  public ResponseEntity<StreamingResponseBody> streamPlayerInfoByName(
+      @Parameter(description = "Name of the player to search for.", example = "Lionel Messi") @RequestParam("playerName") String playerName,
+      @Parameter(description = "Maximum number of match rows, 0 for all.") @RequestParam(value = "limit", defaultValue = "0") int limit,
+      @Parameter(description = "Only matches played on or after this date (yyyy-MM-dd).", example = "2025-08-01") @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+    return PlayerStreamResponses.json(objectMapper, cachedScrapeService.streamPlayer(playerName, since, limit));
+  }
+
+  @Operation(summary = "Look up several players at once", description = "Streams one NDJSON line per player as each lookup completes (completion order). A failed player is reported in its own line without failing the batch.")
+  @PostMapping("/bulk")
+  public ResponseEntity<StreamingResponseBody> getPlayerInfoBulk(
+      @RequestBody List<String> names) {
+    return BulkResponses.ndjson(bulkLookupService, objectMapper, names, cachedScrapeService::getPlayer);
   }
 }
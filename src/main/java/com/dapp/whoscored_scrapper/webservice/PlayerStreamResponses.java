@@ -0,0 +1,59 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.dapp.whoscored_scrapper.service.PlayerStream;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// Writes a PlayerDTO-shaped JSON document incrementally: profile fields first, then matchStats one row at a time
+final class PlayerStreamResponses {
+
+    private static final int FLUSH_EVERY = 50;
+
+    private PlayerStreamResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> json(ObjectMapper objectMapper, PlayerStream stream) {
+        ObjectNode profile = objectMapper.valueToTree(stream.profile());
+        profile.remove("matchStats");
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                Iterator<Map.Entry<String, JsonNode>> fields = profile.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    generator.writeFieldName(field.getKey());
+                    generator.writeTree(field.getValue());
+                }
+                generator.writeArrayFieldStart("matchStats");
+                int[] written = {0};
+                stream.matches().forEach(row -> {
+                    generator.writeObject(row);
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+}
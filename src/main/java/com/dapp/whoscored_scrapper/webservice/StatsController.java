@@ -0,0 +1,72 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.time.LocalDate;
+
+import com.dapp.whoscored_scrapper.model.dto.LeaderboardEntryDTO;
+import com.dapp.whoscored_scrapper.model.dto.PlayerFormDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamStatsDTO;
+import com.dapp.whoscored_scrapper.service.stats.StatsMetric;
+import com.dapp.whoscored_scrapper.service.stats.StatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Stats", description = "Aggregations over stored scrapes. These endpoints never scrape WhoScored.")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @Operation(summary = "Rolling averages of a tracked player", description = "Rating, goals and assists per 90 over the latest stored matches.")
+    @GetMapping("/players/form")
+    public ResponseEntity<PlayerFormDTO> getPlayerForm(
+            @Parameter(description = "Name of a tracked player.", example = "Lionel Messi") @RequestParam("playerName") String playerName,
+            @Parameter(description = "Number of most recent matches.") @RequestParam(value = "lastMatches", defaultValue = "5") int lastMatches,
+            @Parameter(description = "Only matches on or after this date (yyyy-MM-dd).") @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since) {
+        return ResponseEntity.ok(statsService.playerForm(playerName, lastMatches, since));
+    }
+
+    @Operation(summary = "Leaderboard of tracked players", description = "Sorted on the precomputed per-player rollups.")
+    @GetMapping("/players/leaderboard")
+    public ResponseEntity<Page<LeaderboardEntryDTO>> getTrackedLeaderboard(
+            @RequestParam(value = "metric", defaultValue = "RATING") StatsMetric metric,
+            @Parameter(description = "Current team of the player.") @RequestParam(value = "teamName", required = false) String teamName,
+            @RequestParam(value = "minMinutes", defaultValue = "0") int minMinutes,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "direction", defaultValue = "DESC") Sort.Direction direction) {
+        return ResponseEntity.ok(statsService.trackedLeaderboard(metric, teamName, minMinutes, page, size, direction));
+    }
+
+    @Operation(summary = "Leaderboard of squad players", description = "Season figures of every stored squad, filterable by team and position.")
+    @GetMapping("/squads/leaderboard")
+    public ResponseEntity<Page<LeaderboardEntryDTO>> getSquadLeaderboard(
+            @RequestParam(value = "metric", defaultValue = "RATING") StatsMetric metric,
+            @Parameter(description = "Team of the squad.", example = "Real Madrid") @RequestParam(value = "teamName", required = false) String teamName,
+            @Parameter(description = "Substring of the position, e.g. FW or DMC.") @RequestParam(value = "position", required = false) String position,
+            @RequestParam(value = "minMinutes", defaultValue = "0") int minMinutes,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "direction", defaultValue = "DESC") Sort.Direction direction) {
+        return ResponseEntity.ok(statsService.squadLeaderboard(metric, teamName, position, minMinutes, page, size, direction));
+    }
+
+    @Operation(summary = "Squad totals of a stored team")
+    @GetMapping("/teams")
+    public ResponseEntity<TeamStatsDTO> getTeamTotals(
+            @Parameter(description = "Name of the team.", example = "Real Madrid") @RequestParam("teamName") String teamName) {
+        return ResponseEntity.ok(statsService.teamTotals(teamName));
+    }
+}
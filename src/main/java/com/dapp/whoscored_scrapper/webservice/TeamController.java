@@ -1,17 +1,28 @@
 package com.dapp.whoscored_scrapper.webservice;
 
+import com.dapp.whoscored_scrapper.model.dto.GameMatchDTO;
 import com.dapp.whoscored_scrapper.model.dto.TeamDTO;
-import com.dapp.whoscored_scrapper.service.TeamService;
+import com.dapp.whoscored_scrapper.service.BulkLookupService;
+import com.dapp.whoscored_scrapper.service.CachedScrapeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/teamInfo")
@@ -19,13 +30,33 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class TeamController {
 
-    private final TeamService teamService;
+    private final CachedScrapeService cachedScrapeService;
+    private final BulkLookupService bulkLookupService;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "Search and get team info", description = "Find a team and your players. AUTHENTICATION REQUIRED!")
+    @Operation(summary = "Search and get team info", description = "Find a team and your players. Responses carry an ETag; send it back in If-None-Match to get a 304 while the team is unchanged. AUTHENTICATION REQUIRED!")
     @GetMapping("/teamName")
     public ResponseEntity<TeamDTO> getTeamInfoByName(
-            @Parameter(description = "Name of the team to search for.", example = "Real Madrid") @RequestParam("teamName") String teamName) {
-        TeamDTO team = teamService.getTeamInfoByName(teamName);
-        return ResponseEntity.ok(team);
+            @Parameter(description = "Name of the team to search for.", example = "Real Madrid") @RequestParam("teamName") String teamName,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalResponses.versioned(ifNoneMatch,
+                () -> cachedScrapeService.knownTeamVersion(teamName),
+                () -> cachedScrapeService.getTeamVersioned(teamName));
+    }
+
+    @Operation(summary = "Get team fixtures", description = "Played and upcoming matches of a team, newest first. AUTHENTICATION REQUIRED!")
+    @GetMapping("/fixtures")
+    public ResponseEntity<Page<GameMatchDTO>> getTeamFixtures(
+            @Parameter(description = "Name of the team to search for.", example = "Real Madrid") @RequestParam("teamName") String teamName,
+            @Parameter(description = "Zero-based page index.") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100).") @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(cachedScrapeService.getFixtures(teamName, page, size));
+    }
+
+    @Operation(summary = "Look up several teams at once", description = "Streams one NDJSON line per team as each lookup completes (completion order). A failed team is reported in its own line without failing the batch.")
+    @PostMapping("/bulk")
+    public ResponseEntity<StreamingResponseBody> getTeamInfoBulk(
+            @RequestBody List<String> names) {
+        return BulkResponses.ndjson(bulkLookupService, objectMapper, names, cachedScrapeService::getTeam);
     }
 }
@@ -0,0 +1,50 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import java.util.List;
+
+import com.dapp.whoscored_scrapper.model.dto.PlayerDTO;
+import com.dapp.whoscored_scrapper.model.dto.TrackedPlayerDTO;
+import com.dapp.whoscored_scrapper.service.tracking.TrackedPlayerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/trackedPlayers")
+@Tag(name = "Tracked Players", description = "Players whose match stats are kept up to date in the background.")
+@RequiredArgsConstructor
+public class TrackedPlayerController {
+
+    private final TrackedPlayerService trackedPlayerService;
+
+    @Operation(summary = "List tracked players", description = "With their last and next sync times.")
+    @GetMapping
+    public ResponseEntity<List<TrackedPlayerDTO>> list() {
+        return ResponseEntity.ok(trackedPlayerService.list());
+    }
+
+    @Operation(summary = "Track a player", description = "Scrapes the player once and keeps the match stats refreshed; /api/searchPlayer then answers from the store.")
+    @PostMapping
+    public ResponseEntity<PlayerDTO> track(
+            @Parameter(description = "Name of the player.", example = "Lionel Messi") @RequestParam("playerName") String playerName) {
+        return ResponseEntity.ok(trackedPlayerService.track(playerName));
+    }
+
+    @Operation(summary = "Stop tracking a player", description = "Deletes the stored match stats.")
+    @DeleteMapping
+    public ResponseEntity<Void> untrack(
+            @Parameter(description = "Name of the player.", example = "Lionel Messi") @RequestParam("playerName") String playerName) {
+        return trackedPlayerService.untrack(playerName)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+}
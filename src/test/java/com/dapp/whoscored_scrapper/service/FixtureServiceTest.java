@@ -0,0 +1,57 @@
+package com.dapp.whoscored_scrapper.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.dapp.whoscored_scrapper.model.dto.GameMatchDTO;
+
+class FixtureServiceTest {
+
+    @Test
+    void keepsHomeMatchesAsScraped() {
+        GameMatchDTO match = FixtureService.orient(row("Real Madrid", "Barcelona", "1", "Not found"), "Real Madrid");
+
+        assertEquals("Real Madrid", match.getActualTeam());
+        assertEquals("Barcelona", match.getRivalTeam());
+        assertEquals("1", match.getRedCardsActualTeam());
+        assertEquals("0", match.getRedCardsRivalTeam());
+    }
+
+    @Test
+    void swapsSidesAndRedCardsOfAwayMatches() {
+        GameMatchDTO match = FixtureService.orient(row("Barcelona", "Real Madrid", "2", "Not found"), "Real Madrid");
+
+        assertEquals("Real Madrid", match.getActualTeam());
+        assertEquals("Barcelona", match.getRivalTeam());
+        assertEquals("0", match.getRedCardsActualTeam());
+        assertEquals("2", match.getRedCardsRivalTeam());
+    }
+
+    @Test
+    void matchesTheTeamIgnoringAccentsAndShortNames() {
+        GameMatchDTO match = FixtureService.orient(row("Sevilla", "Atletico Madrid", "Not found", "Not found"), "Atlético");
+
+        assertEquals("Atletico Madrid", match.getActualTeam());
+        assertEquals("Sevilla", match.getRivalTeam());
+        assertEquals("0", match.getRedCardsActualTeam());
+        assertEquals("0", match.getRedCardsRivalTeam());
+    }
+
+    @Test
+    void rewritesTeamPagesToTheirFixturesPage() {
+        assertEquals("https://www.whoscored.com/Teams/52/Fixtures/Spain-Real-Madrid",
+                FixtureService.fixturesUrl("https://www.whoscored.com/Teams/52/Show/Spain-Real-Madrid"));
+        assertEquals("https://www.whoscored.com/Teams/52/Fixtures/Spain-Real-Madrid",
+                FixtureService.fixturesUrl("https://www.whoscored.com/Teams/52/Fixtures/Spain-Real-Madrid"));
+    }
+
+    private static GameMatchDTO row(String home, String away, String homeRedCards, String awayRedCards) {
+        return GameMatchDTO.builder()
+                .actualTeam(home)
+                .rivalTeam(away)
+                .redCardsActualTeam(homeRedCards)
+                .redCardsRivalTeam(awayRedCards)
+                .build();
+    }
+}
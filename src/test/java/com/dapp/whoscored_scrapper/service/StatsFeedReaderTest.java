@@ -0,0 +1,99 @@
+package com.dapp.whoscored_scrapper.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.dapp.whoscored_scrapper.model.dto.PlayerMatchStatsDTO;
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StatsFeedReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void mapsSquadRowsLikeTheRenderedTable() throws Exception {
+        JsonNode feed = objectMapper.readTree("""
+                {"playerTableStats": [{
+                    "name": "Jude Bellingham", "age": 22, "playedPositionsShort": "AM(C)",
+                    "height": 186, "weight": 75, "apps": 23, "subOn": 4, "minsPlayed": 2010,
+                    "goal": 9, "assistTotal": 0, "yellowCard": null, "redCard": 0,
+                    "shotsPerGame": 2.25, "passSuccess": 87.31, "aerialWonPerGame": 1, "manOfTheMatch": 3,
+                    "rating": 7.456
+                }], "paging": {"currentPage": 1, "totalPages": 1}}
+                """);
+
+        List<TeamPlayerDTO> rows = StatsFeedReader.mapRows(feed, StatsFeedReader::toTeamPlayer);
+
+        assertEquals(1, rows.size());
+        TeamPlayerDTO row = rows.get(0);
+        assertEquals("Jude Bellingham", row.getName());
+        assertEquals("22", row.getAge());
+        assertEquals("AM(C)", row.getPosition());
+        assertEquals("23(4)", row.getApps());
+        assertEquals("2010", row.getMinsPlayed());
+        assertEquals("9", row.getGoals());
+        assertEquals("-", row.getAssists());
+        assertEquals("-", row.getYellowCards());
+        assertEquals("2.3", row.getShotsPerGame());
+        assertEquals("87.3", row.getPassSuccess());
+        assertEquals("7.46", row.getRating());
+    }
+
+    @Test
+    void fallsBackToAlternativeFieldsAndNotFound() throws Exception {
+        JsonNode feed = objectMapper.readTree("""
+                {"playerTableStats": [{"name": "Unknown", "positionText": "Forward", "apps": 5, "age": ""}]}
+                """);
+
+        TeamPlayerDTO row = StatsFeedReader.mapRows(feed, StatsFeedReader::toTeamPlayer).get(0);
+
+        assertEquals("Forward", row.getPosition());
+        assertEquals("5", row.getApps());
+        assertEquals(AbstractWebService.NOT_FOUND, row.getAge());
+        assertEquals(AbstractWebService.NOT_FOUND, row.getHeight());
+    }
+
+    @Test
+    void mapsMatchRowsWithTableDatesAndBuiltScores() throws Exception {
+        JsonNode feed = objectMapper.readTree("""
+                {"matches": [
+                    {"oppositionTeamName": "Espanyol", "homeScore": 2, "awayScore": 0,
+                     "startTime": "2025-09-21T16:15:00", "playedPositionShort": "AMC",
+                     "minsPlayed": 90, "goal": 1, "shotsTotal": 3, "passSuccess": 91.2, "rating": 8.1},
+                    {"opponentTeamName": "Atletico Madrid", "score": "5 : 2", "date": "27-09-2025"}
+                ]}
+                """);
+
+        List<PlayerMatchStatsDTO> rows = StatsFeedReader.mapRows(feed, StatsFeedReader::toMatchStats);
+
+        assertEquals(2, rows.size());
+        PlayerMatchStatsDTO first = rows.get(0);
+        assertEquals("Espanyol", first.getOpponent());
+        assertEquals("2 : 0", first.getScore());
+        assertEquals("21-09-2025", first.getDate());
+        assertEquals("AMC", first.getPosition());
+        assertEquals("90", first.getMinsPlayed());
+        assertEquals("1", first.getGoals());
+        assertEquals("-", first.getAssists());
+        assertEquals("91.2", first.getPassSuccess());
+        assertEquals("8.10", first.getRating());
+
+        PlayerMatchStatsDTO second = rows.get(1);
+        assertEquals("Atletico Madrid", second.getOpponent());
+        assertEquals("5 : 2", second.getScore());
+        assertEquals("27-09-2025", second.getDate());
+    }
+
+    @Test
+    void readsNothingFromFeedsWithoutARowArray() throws Exception {
+        JsonNode feed = objectMapper.readTree("{\"paging\": {\"totalPages\": 1}}");
+
+        assertTrue(StatsFeedReader.mapRows(feed, StatsFeedReader::toMatchStats).isEmpty());
+    }
+}
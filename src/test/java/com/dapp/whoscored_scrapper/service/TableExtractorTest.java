@@ -0,0 +1,47 @@
+package com.dapp.whoscored_scrapper.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.select.Elements;
+import org.junit.jupiter.api.Test;
+
+import com.dapp.whoscored_scrapper.model.dto.TeamPlayerDTO;
+
+// SQUAD_COLUMNS against a static copy of WhoScored's squad table, without a browser
+class TableExtractorTest {
+
+    @Test
+    void mapsEverySquadColumn() throws IOException {
+        List<TeamPlayerDTO> squad = squadRows().stream()
+                .map(row -> TableExtractor.mapRow(row, TeamService.SQUAD_COLUMNS))
+                .toList();
+
+        assertEquals(2, squad.size());
+        assertEquals(TeamPlayerDTO.builder()
+                .name("Julián Álvarez").age("25").position("FW").height("170").weight("71").apps("8(1)")
+                .minsPlayed("702").goals("5").assists("2").yellowCards("1").redCards("-").shotsPerGame("2.9")
+                .passSuccess("78.4").aerialsWonPerGame("0.4").manOfTheMatch("3").rating("7.52")
+                .build(), squad.get(0));
+    }
+
+    @Test
+    void missingCellsBecomeNotFound() throws IOException {
+        TeamPlayerDTO keeper = TableExtractor.mapRow(squadRows().get(1), TeamService.SQUAD_COLUMNS);
+
+        assertEquals("GK", keeper.getPosition());
+        assertEquals(AbstractWebService.NOT_FOUND, keeper.getRating());
+    }
+
+    private static Elements squadRows() throws IOException {
+        try (InputStream html = TableExtractorTest.class.getResourceAsStream("/fixtures/squad-table.html")) {
+            return Jsoup.parse(html, StandardCharsets.UTF_8.name(), "https://es.whoscored.com/")
+                    .select(WhoScoredSelectors.STATS_TABLE_BODY + " tr");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dapp.whoscored_scrapper.service.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.dapp.whoscored_scrapper.config.CacheProperties;
+import com.dapp.whoscored_scrapper.model.entity.Fixture;
+
+// Post-match delay is the default 6 hours
+class FixtureStoreTest {
+
+    private final FixtureStore store = new FixtureStore(null, null, new CacheProperties());
+
+    @Test
+    void waitsForTheRefreshOfYesterdaysMatch() {
+        List<Fixture> fixtures = List.of(fixture("2025-09-21", true), fixture("2025-09-28", false));
+
+        assertEquals(Optional.of(Instant.parse("2025-09-22T06:00:00Z")),
+                store.pendingRefresh(fixtures, Instant.parse("2025-09-22T03:00:00Z")));
+    }
+
+    @Test
+    void movesOnOncePlayedMatchesAreRefreshed() {
+        List<Fixture> fixtures = List.of(fixture("2025-09-21", true), fixture("2025-09-22", true),
+                fixture("2025-09-28", false));
+
+        assertEquals(Optional.of(Instant.parse("2025-09-23T06:00:00Z")),
+                store.pendingRefresh(fixtures, Instant.parse("2025-09-22T20:00:00Z")));
+        assertEquals(Optional.of(Instant.parse("2025-09-29T06:00:00Z")),
+                store.pendingRefresh(fixtures, Instant.parse("2025-09-23T07:00:00Z")));
+    }
+
+    @Test
+    void hasNoRefreshWithoutUpcomingMatches() {
+        List<Fixture> fixtures = List.of(fixture("2025-09-21", true));
+
+        assertEquals(Optional.empty(), store.pendingRefresh(fixtures, Instant.parse("2025-09-23T00:00:00Z")));
+    }
+
+    private static Fixture fixture(String matchDate, boolean played) {
+        Fixture fixture = new Fixture();
+        fixture.setMatchDate(LocalDate.parse(matchDate));
+        fixture.setPlayed(played);
+        return fixture;
+    }
+}
@@ -0,0 +1,86 @@
+package com.dapp.whoscored_scrapper.service.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.dapp.whoscored_scrapper.config.SelectorProperties;
+import com.dapp.whoscored_scrapper.model.entity.SelectorHitStat;
+import com.dapp.whoscored_scrapper.model.entity.SelectorStep;
+import com.dapp.whoscored_scrapper.repository.SelectorHitStatRepository;
+import com.dapp.whoscored_scrapper.service.WhoScoredSelectors;
+
+class SelectorStrategyRegistryTest {
+
+    private static final String FIRST = WhoScoredSelectors.SEARCH_INPUTS.get(0);
+    private static final String SECOND = WhoScoredSelectors.SEARCH_INPUTS.get(1);
+
+    private final SelectorHitStatRepository repository = mock(SelectorHitStatRepository.class);
+    private final SelectorStrategyRegistry registry = new SelectorStrategyRegistry(repository, new SelectorProperties());
+
+    @Test
+    void ordersByDecayedScore() {
+        for (int i = 0; i < 3; i++) {
+            registry.recordHit(SelectorStep.SEARCH_INPUT, SECOND);
+        }
+        registry.recordHit(SelectorStep.SEARCH_INPUT, FIRST);
+        // SECOND: 2.71 decayed once to 2.44, FIRST: 1
+        assertEquals(List.of(SECOND, FIRST), registry.ordered(SelectorStep.SEARCH_INPUT).subList(0, 2));
+
+        for (int i = 0; i < 3; i++) {
+            registry.recordHit(SelectorStep.SEARCH_INPUT, FIRST);
+        }
+        // FIRST: 3.44, SECOND: 2.71 decayed four times to 1.78
+        assertEquals(List.of(FIRST, SECOND), registry.ordered(SelectorStep.SEARCH_INPUT).subList(0, 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesOnlyTheSelectorThatMatched() {
+        when(repository.findByStepAndSelector(any(), any())).thenReturn(Optional.empty());
+        registry.recordHit(SelectorStep.SEARCH_INPUT, SECOND);
+        registry.recordHit(SelectorStep.SEARCH_INPUT, SECOND);
+
+        registry.flush();
+
+        ArgumentCaptor<Iterable<SelectorHitStat>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository).saveAll(saved.capture());
+        List<SelectorHitStat> rows = new ArrayList<>();
+        saved.getValue().forEach(rows::add);
+        assertEquals(1, rows.size());
+        assertEquals(SECOND, rows.get(0).getSelector());
+        assertEquals(2, rows.get(0).getHits());
+        assertEquals(1.9, rows.get(0).getScore(), 1e-9);
+        assertEquals(2L, rows.get(0).getScoreStepHits());
+    }
+
+    @Test
+    void splitsHasTextIntoCssAndLowercaseText() {
+        assertEquals(Map.of("css", "button", "text", "aceptar"),
+                SelectorStrategyRegistry.toProbe("button:has-text('Aceptar')"));
+        assertEquals(Map.of("css", "div.qc-cmp2-summary-buttons button", "text", "i accept"),
+                SelectorStrategyRegistry.toProbe("div.qc-cmp2-summary-buttons button:has-text('I Accept')"));
+    }
+
+    @Test
+    void leavesPlainSelectorsWithoutText() {
+        assertEquals(Map.of("css", "#search-box", "text", ""), SelectorStrategyRegistry.toProbe("#search-box"));
+        assertEquals(Map.of("css", "input[name='q']", "text", ""), SelectorStrategyRegistry.toProbe("input[name='q']"));
+    }
+
+    @Test
+    void keepsHasTextThatIsNotTheLastPartAsCss() {
+        String selector = "div:has-text('Cookies') button";
+        assertEquals(Map.of("css", selector, "text", ""), SelectorStrategyRegistry.toProbe(selector));
+    }
+}
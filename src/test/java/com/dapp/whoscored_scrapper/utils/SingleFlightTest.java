@@ -0,0 +1,110 @@
+package com.dapp.whoscored_scrapper.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsWithTheSameKeyRunOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> call = () -> {
+            runs.incrementAndGet();
+            await(release);
+            return "squad";
+        };
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("real madrid", call));
+        awaitInFlight();
+        Future<String> follower = executor.submit(() -> singleFlight.execute("real madrid", call));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertEquals("squad", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("squad", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void followersGetTheLeadersException() throws Exception {
+        IllegalArgumentException notFound = new IllegalArgumentException("Team not found");
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> call = () -> {
+            await(release);
+            throw notFound;
+        };
+
+        Future<Throwable> leader = executor.submit(() -> thrownBy("nowhere fc", call));
+        awaitInFlight();
+        Future<Throwable> follower = executor.submit(() -> thrownBy("nowhere fc", call));
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertSame(notFound, leader.get(5, TimeUnit.SECONDS));
+        assertSame(notFound, follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void keyIsForgottenOnceTheCallFinishes() {
+        AtomicInteger runs = new AtomicInteger();
+
+        singleFlight.execute("messi", () -> "v" + runs.incrementAndGet());
+        String second = singleFlight.execute("messi", () -> "v" + runs.incrementAndGet());
+
+        assertEquals("v2", second);
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("messi", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    private Throwable thrownBy(String key, Supplier<String> call) {
+        return assertThrows(RuntimeException.class, () -> singleFlight.execute(key, call));
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitCoalesced(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
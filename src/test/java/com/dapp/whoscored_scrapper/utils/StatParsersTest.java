@@ -0,0 +1,61 @@
+package com.dapp.whoscored_scrapper.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class StatParsersTest {
+
+    @Test
+    void dashIsZeroForStatsButUnratedForRatings() {
+        assertEquals(0.0, StatParsers.parseDouble("-"));
+        assertEquals(0, StatParsers.parseInt(" - "));
+        assertNull(StatParsers.parseRating("-"));
+        assertEquals(7.12, StatParsers.parseRating("7.12"));
+    }
+
+    @Test
+    void readsTheLeadingNumberOfDecoratedTexts() {
+        assertEquals(85.3, StatParsers.parseDouble("85.3%"));
+        assertEquals(85.3, StatParsers.parseDouble("85,3%"));
+        assertEquals(180.0, StatParsers.parseDouble("180cm"));
+        assertEquals(-2.0, StatParsers.parseDouble("-2"));
+    }
+
+    @Test
+    void unreadableTextsAreNull() {
+        assertNull(StatParsers.parseDouble(null));
+        assertNull(StatParsers.parseDouble(""));
+        assertNull(StatParsers.parseDouble("Not found"));
+        assertNull(StatParsers.parseInt("Not found"));
+    }
+
+    @Test
+    void splitsStartsAndSubstituteAppearances() {
+        assertEquals(23, StatParsers.starts("23(4)"));
+        assertEquals(4, StatParsers.substituteAppearances("23(4)"));
+        assertEquals(12, StatParsers.starts("12"));
+        assertEquals(0, StatParsers.substituteAppearances("12"));
+        assertNull(StatParsers.substituteAppearances("Not found"));
+    }
+
+    @Test
+    void parsesMatchDatesInTheTableFormat() {
+        assertEquals(LocalDate.of(2025, 9, 21), StatParsers.parseMatchDate("21-09-2025"));
+        assertEquals(LocalDate.of(2025, 9, 21), StatParsers.parseMatchDate(" 21-09-2025 "));
+        assertNull(StatParsers.parseMatchDate("2025-09-21"));
+        assertNull(StatParsers.parseMatchDate("Not found"));
+        assertNull(StatParsers.parseMatchDate(null));
+    }
+
+    @Test
+    void formatsBackToTheTableFormat() {
+        assertEquals("-", StatParsers.format(0, 1));
+        assertEquals("-", StatParsers.format(null, 0));
+        assertEquals("85.3", StatParsers.format(85.3, 1));
+        assertEquals("12", StatParsers.format(12.4, 0));
+    }
+}
@@ -0,0 +1,69 @@
+package com.dapp.whoscored_scrapper.webservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.dapp.whoscored_scrapper.service.cache.ContentVersion;
+import com.dapp.whoscored_scrapper.service.cache.Versioned;
+
+class ConditionalResponsesTest {
+
+    private static final ContentVersion VERSION = new ContentVersion("abc123", Instant.parse("2025-09-21T10:00:00Z"));
+
+    @Test
+    void matchesQuotedWeakAndWildcardTags() {
+        assertTrue(ConditionalResponses.matches("\"abc123\"", "abc123"));
+        assertTrue(ConditionalResponses.matches("W/\"abc123\"", "abc123"));
+        assertTrue(ConditionalResponses.matches("abc123", "abc123"));
+        assertTrue(ConditionalResponses.matches("*", "abc123"));
+    }
+
+    @Test
+    void matchesAnyTagOfAList() {
+        assertTrue(ConditionalResponses.matches("\"old\", W/\"abc123\"", "abc123"));
+        assertTrue(ConditionalResponses.matches("\"old\" ,*", "abc123"));
+        assertFalse(ConditionalResponses.matches("\"old\", W/\"older\"", "abc123"));
+    }
+
+    @Test
+    void doesNotMatchOtherOrMalformedTags() {
+        assertFalse(ConditionalResponses.matches("\"abc1234\"", "abc123"));
+        assertFalse(ConditionalResponses.matches("\"abc123", "abc123"));
+        assertFalse(ConditionalResponses.matches("", "abc123"));
+    }
+
+    @Test
+    void answersAMatchingTagWithoutLookingUp() {
+        AtomicInteger lookups = new AtomicInteger();
+        ResponseEntity<String> response = ConditionalResponses.versioned("W/\"abc123\"", () -> Optional.of(VERSION),
+                () -> {
+                    lookups.incrementAndGet();
+                    return new Versioned<>("body", VERSION);
+                });
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"abc123\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    void looksUpWhenTheTagIsStale() {
+        ResponseEntity<String> response = ConditionalResponses.versioned("\"old\"", () -> Optional.of(VERSION),
+                () -> new Versioned<>("body", VERSION));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc123\"", response.getHeaders().getETag());
+        assertEquals("body", response.getBody());
+    }
+}